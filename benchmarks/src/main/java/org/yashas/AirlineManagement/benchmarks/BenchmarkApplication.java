@@ -0,0 +1,38 @@
+package org.yashas.AirlineManagement.benchmarks;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.yashas.AirlineManagement.AirlineManagementApplication;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts the application for a benchmark against a private in-memory H2 database.
+ * Background work that would compete with the measured code (outbox relay, request logging)
+ * is switched off, and the server binds to a random port.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * @param databaseName name of the in-memory database, unique per benchmark
+     * @param properties additional {@code name=value} overrides
+     * @return the running application context; close it in the benchmark's tear-down
+     */
+    static ConfigurableApplicationContext start(String databaseName, String... properties) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.h2.console.enabled=false",
+                "--server.port=0",
+                "--notification.outbox.relay-enabled=false",
+                "--logging.level.root=WARN"));
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+        return new SpringApplicationBuilder(AirlineManagementApplication.class)
+                .run(args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,120 @@
+package org.yashas.AirlineManagement.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.yashas.AirlineManagement.model.Flight;
+import org.yashas.AirlineManagement.payload.flight.FlightFilterRequestDTO;
+import org.yashas.AirlineManagement.repository.FlightRepository;
+import org.yashas.AirlineManagement.spesification.FlightSpecification;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code FlightSpecification.filterFlights} executed through {@code FlightRepository.findAll}
+ * against 10k and 1M flights. Flights are spread over {@value #AIRPORTS} airports and one year
+ * of departures from a fixed seed, and each invocation runs the next of a fixed set of
+ * route and date filters. Hibernate's query and second-level caches are switched off so every
+ * invocation reaches the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FlightSearchBenchmark {
+
+    private static final int AIRPORTS = 50;
+    private static final int FILTERS = 1024;
+    private static final int INSERT_BATCH_SIZE = 5_000;
+    private static final long FIRST_ID = 1_000_000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2030, 1, 1);
+
+    @Param({"10000", "1000000"})
+    private int flightCount;
+
+    private ConfigurableApplicationContext context;
+    private FlightRepository flightRepository;
+    private FlightFilterRequestDTO[] filters;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("flight-search-" + flightCount,
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+                "flight.search.route-index.enabled=false");
+        flightRepository = context.getBean(FlightRepository.class);
+        insertFlights(context.getBean(JdbcTemplate.class));
+        filters = createFilters();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Flight> filterFlights() {
+        FlightFilterRequestDTO filter = filters[next++ & (FILTERS - 1)];
+        return flightRepository.findAll(FlightSpecification.filterFlights(filter));
+    }
+
+    private void insertFlights(JdbcTemplate jdbcTemplate) {
+        Long airplaneId = jdbcTemplate.queryForObject("SELECT MIN(airplane_id) FROM airplane", Long.class);
+        Random random = new Random(42);
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < flightCount; i++) {
+            int from = random.nextInt(AIRPORTS);
+            int to = (from + 1 + random.nextInt(AIRPORTS - 1)) % AIRPORTS;
+            LocalDateTime departure = FIRST_DAY.atStartOfDay()
+                    .plusDays(random.nextInt(365))
+                    .plusMinutes(random.nextInt(24 * 60));
+            LocalDateTime arrival = departure.plusMinutes(60 + random.nextInt(12 * 60));
+            batch.add(new Object[] {FIRST_ID + i, "BM" + i, airport(from), airport(to),
+                    Timestamp.valueOf(departure), Timestamp.valueOf(arrival), airplaneId});
+            if (batch.size() == INSERT_BATCH_SIZE || i == flightCount - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO flight (flight_id, flight_number, departure, destination, "
+                        + "departure_time, arrival_time, airplane_id) VALUES (?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private FlightFilterRequestDTO[] createFilters() {
+        Random random = new Random(7);
+        FlightFilterRequestDTO[] result = new FlightFilterRequestDTO[FILTERS];
+        for (int i = 0; i < FILTERS; i++) {
+            int from = random.nextInt(AIRPORTS);
+            FlightFilterRequestDTO filter = new FlightFilterRequestDTO();
+            filter.setDepartureLocation(airport(from));
+            filter.setArrivalLocation(airport((from + 1 + random.nextInt(AIRPORTS - 1)) % AIRPORTS));
+            filter.setDepartureDate(FIRST_DAY.plusDays(random.nextInt(365)));
+            result[i] = filter;
+        }
+        return result;
+    }
+
+    private static String airport(int index) {
+        return "Airport " + index;
+    }
+}
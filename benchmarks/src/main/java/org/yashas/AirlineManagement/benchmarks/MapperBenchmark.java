@@ -0,0 +1,98 @@
+package org.yashas.AirlineManagement.benchmarks;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.yashas.AirlineManagement.mapper.FlightMapper;
+import org.yashas.AirlineManagement.mapper.ReservationMapper;
+import org.yashas.AirlineManagement.model.Airplane;
+import org.yashas.AirlineManagement.model.Flight;
+import org.yashas.AirlineManagement.model.Reservation;
+import org.yashas.AirlineManagement.payload.flight.FlightRequestDTO;
+import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
+import org.yashas.AirlineManagement.payload.reservation.ReservationRequestDTO;
+import org.yashas.AirlineManagement.payload.reservation.ReservationResponseDTO;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The MapStruct-generated flight and reservation conversions used on every request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MapperBenchmark {
+
+    private final FlightMapper flightMapper = Mappers.getMapper(FlightMapper.class);
+    private final ReservationMapper reservationMapper = Mappers.getMapper(ReservationMapper.class);
+
+    private Flight flight;
+    private FlightRequestDTO flightRequest;
+    private Reservation reservation;
+    private ReservationRequestDTO reservationRequest;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime departure = LocalDateTime.of(2030, 1, 1, 9, 0);
+        Airplane airplane = Airplane.builder()
+                .id(1L)
+                .tailNumber("TC-JNA")
+                .model("Airbus A320")
+                .capacity(180)
+                .productionYear(2012)
+                .status(true)
+                .build();
+        flight = Flight.builder()
+                .id(10L)
+                .flightNumber("TK1001")
+                .departure("Istanbul Airport")
+                .destination("Heathrow Airport")
+                .departureTime(departure)
+                .arrivalTime(departure.plusHours(4))
+                .airplane(airplane)
+                .build();
+        flightRequest = new FlightRequestDTO("TK1001", "Istanbul Airport", "Heathrow Airport",
+                departure, departure.plusHours(4), 1L);
+        reservation = Reservation.builder()
+                .id(100L)
+                .passengerName("Ada Lovelace")
+                .passengerEmail("ada@example.com")
+                .reservationCode("K3Q9ZA")
+                .status(true)
+                .createdAt(departure.minusDays(30))
+                .flight(flight)
+                .build();
+        reservationRequest = new ReservationRequestDTO("Ada Lovelace", "ada@example.com", 10L);
+    }
+
+    @Benchmark
+    public FlightResponseDTO flightToResponse() {
+        return flightMapper.toResponse(flight);
+    }
+
+    @Benchmark
+    public Flight flightToEntity() {
+        return flightMapper.toEntity(flightRequest, null);
+    }
+
+    @Benchmark
+    public ReservationResponseDTO reservationToResponse() {
+        return reservationMapper.toResponse(reservation);
+    }
+
+    @Benchmark
+    public Reservation reservationToEntity() {
+        return reservationMapper.toEntity(reservationRequest, null);
+    }
+}
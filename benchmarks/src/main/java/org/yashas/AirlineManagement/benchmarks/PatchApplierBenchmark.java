@@ -0,0 +1,134 @@
+package org.yashas.AirlineManagement.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.yashas.AirlineManagement.mapper.AirplaneMapper;
+import org.yashas.AirlineManagement.mapper.FlightMapper;
+import org.yashas.AirlineManagement.mapper.ReservationMapper;
+import org.yashas.AirlineManagement.model.Airplane;
+import org.yashas.AirlineManagement.model.Flight;
+import org.yashas.AirlineManagement.model.Reservation;
+import org.yashas.AirlineManagement.payload.airplane.PartialAirplaneRequestDTO;
+import org.yashas.AirlineManagement.payload.flight.PartialFlightRequestDTO;
+import org.yashas.AirlineManagement.payload.reservation.PartialReservationRequestDTO;
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Partial updates: the {@code PatchApplier} bindings used by the PATCH endpoints against the
+ * reflective field copy they replaced. Each invocation applies two alternating patches,
+ * so every bound field is written on every call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PatchApplierBenchmark {
+
+    private Flight flight;
+    private PartialFlightRequestDTO flightPatchA;
+    private PartialFlightRequestDTO flightPatchB;
+
+    private Airplane airplane;
+    private PartialAirplaneRequestDTO airplanePatchA;
+    private PartialAirplaneRequestDTO airplanePatchB;
+
+    private Reservation reservation;
+    private PartialReservationRequestDTO reservationPatchA;
+    private PartialReservationRequestDTO reservationPatchB;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime departure = LocalDateTime.of(2025, 6, 1, 9, 0);
+        flight = new Flight();
+        flightPatchA = new PartialFlightRequestDTO("TK1001", "IST", "LHR", departure, departure.plusHours(4), null);
+        flightPatchB = new PartialFlightRequestDTO("TK1002", "SAW", "CDG", departure.plusDays(1), departure.plusDays(1).plusHours(3), null);
+
+        airplane = new Airplane();
+        airplanePatchA = new PartialAirplaneRequestDTO("TC-JNA", "Airbus A320", 180, 2012, true);
+        airplanePatchB = new PartialAirplaneRequestDTO("TC-JNB", "Boeing 737", 189, 2015, false);
+
+        reservation = new Reservation();
+        reservationPatchA = new PartialReservationRequestDTO("Ada Lovelace", "ada@example.com", null);
+        reservationPatchB = new PartialReservationRequestDTO("Alan Turing", "alan@example.com", null);
+    }
+
+    @Benchmark
+    public void flightReflection(Blackhole blackhole) {
+        blackhole.consume(reflectiveCopy(flightPatchA, flight));
+        blackhole.consume(reflectiveCopy(flightPatchB, flight));
+    }
+
+    @Benchmark
+    public void flightPatchApplier(Blackhole blackhole) {
+        blackhole.consume(FlightMapper.PATCH.apply(flightPatchA, flight));
+        blackhole.consume(FlightMapper.PATCH.apply(flightPatchB, flight));
+    }
+
+    @Benchmark
+    public void airplaneReflection(Blackhole blackhole) {
+        blackhole.consume(reflectiveCopy(airplanePatchA, airplane));
+        blackhole.consume(reflectiveCopy(airplanePatchB, airplane));
+    }
+
+    @Benchmark
+    public void airplanePatchApplier(Blackhole blackhole) {
+        blackhole.consume(AirplaneMapper.PATCH.apply(airplanePatchA, airplane));
+        blackhole.consume(AirplaneMapper.PATCH.apply(airplanePatchB, airplane));
+    }
+
+    @Benchmark
+    public void reservationReflection(Blackhole blackhole) {
+        blackhole.consume(reflectiveCopy(reservationPatchA, reservation));
+        blackhole.consume(reflectiveCopy(reservationPatchB, reservation));
+    }
+
+    @Benchmark
+    public void reservationPatchApplier(Blackhole blackhole) {
+        blackhole.consume(ReservationMapper.PATCH.apply(reservationPatchA, reservation));
+        blackhole.consume(ReservationMapper.PATCH.apply(reservationPatchB, reservation));
+    }
+
+    /**
+     * The field copy the services used before {@code PatchApplier}, minus its per-field logging.
+     *
+     * @param patch partial-update DTO
+     * @param entity entity to update
+     * @return true if any field changed
+     */
+    static boolean reflectiveCopy(Object patch, Object entity) {
+        boolean isUpdated = false;
+        for (Field field : patch.getClass().getDeclaredFields()) {
+            try {
+                field.setAccessible(true);
+                Object dtoValue = field.get(patch);
+                if (dtoValue != null) {
+                    Field entityField = entity.getClass().getDeclaredField(field.getName());
+                    entityField.setAccessible(true);
+                    Object entityValue = entityField.get(entity);
+
+                    if (!Objects.equals(entityValue, dtoValue)) {
+                        entityField.set(entity, dtoValue);
+                        isUpdated = true;
+                    }
+                }
+            } catch (NoSuchFieldException | IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return isUpdated;
+    }
+}
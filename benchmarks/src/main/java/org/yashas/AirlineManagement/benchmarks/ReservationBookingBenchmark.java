@@ -0,0 +1,94 @@
+package org.yashas.AirlineManagement.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.yashas.AirlineManagement.model.Airplane;
+import org.yashas.AirlineManagement.model.Flight;
+import org.yashas.AirlineManagement.payload.reservation.ReservationRequestDTO;
+import org.yashas.AirlineManagement.payload.reservation.ReservationResponseDTO;
+import org.yashas.AirlineManagement.repository.AirplaneRepository;
+import org.yashas.AirlineManagement.repository.FlightRepository;
+import org.yashas.AirlineManagement.service.implementations.SeatInventoryService;
+import org.yashas.AirlineManagement.service.interfaces.ReservationService;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ReservationService.createReservation} end to end against an embedded H2 database:
+ * flight lookup, seat counter update, code generation, reservation insert and outbox record.
+ * The flight's airplane has an effectively unlimited capacity so the run never sells out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ReservationBookingBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private ReservationService reservationService;
+    private ReservationRequestDTO request;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("reservation-booking");
+        reservationService = context.getBean(ReservationService.class);
+
+        AirplaneRepository airplaneRepository = context.getBean(AirplaneRepository.class);
+        FlightRepository flightRepository = context.getBean(FlightRepository.class);
+        SeatInventoryService seatInventoryService = context.getBean(SeatInventoryService.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        Long flightId = transactionTemplate.execute(status -> {
+            Airplane airplane = airplaneRepository.save(Airplane.builder()
+                    .tailNumber("BM-001")
+                    .model("Benchmark 1")
+                    .capacity(Integer.MAX_VALUE)
+                    .productionYear(2020)
+                    .status(true)
+                    .build());
+            Flight flight = flightRepository.save(Flight.builder()
+                    .flightNumber("BM1")
+                    .departure("Istanbul Airport")
+                    .destination("Heathrow Airport")
+                    .departureTime(LocalDateTime.of(2030, 1, 1, 9, 0))
+                    .arrivalTime(LocalDateTime.of(2030, 1, 1, 13, 0))
+                    .airplane(airplane)
+                    .build());
+            seatInventoryService.initialize(flight);
+            return flight.getId();
+        });
+        request = new ReservationRequestDTO("Ada Lovelace", "ada@example.com", flightId);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ReservationResponseDTO createReservation() {
+        return reservationService.createReservation(request);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ReservationResponseDTO createReservationContended() {
+        return reservationService.createReservation(request);
+    }
+}
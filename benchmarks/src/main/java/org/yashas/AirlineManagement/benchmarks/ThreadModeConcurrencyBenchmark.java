@@ -0,0 +1,253 @@
+package org.yashas.AirlineManagement.benchmarks;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.yashas.AirlineManagement.model.Airplane;
+import org.yashas.AirlineManagement.model.Flight;
+import org.yashas.AirlineManagement.repository.AirplaneRepository;
+import org.yashas.AirlineManagement.repository.FlightRepository;
+import org.yashas.AirlineManagement.service.implementations.SeatInventoryService;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares the highest request concurrency the application sustains with platform request threads
+ * (the default) and with virtual threads (the {@code virtual} profile).
+ * <p>
+ * For each mode the application is started against a private in-memory H2 database, and closed-loop
+ * clients run half bookings ({@code POST /reservations}) and half availability reads
+ * ({@code GET /flights/availability}) at increasing concurrency levels. The clients are virtual threads,
+ * so the driver itself is not the bottleneck. A level is sustained if its p99 latency stays within
+ * {@code slo-p99-ms} and its error rate within {@code max-error-rate}; the ramp stops at the first level
+ * that is not. Results are printed and written to {@code output-dir/thread-modes.csv}.
+ * <p>
+ * Run from the benchmarks directory after installing the application:
+ * <pre>
+ * ../mvnw compile exec:java -Dexec.mainClass=org.yashas.AirlineManagement.benchmarks.ThreadModeConcurrencyBenchmark \
+ *     -Dexec.args="levels=50,100,200,400,800,1600,3200 duration=20"
+ * </pre>
+ * Options (all optional, written as {@code name=value} or {@code --name=value}): {@code modes=platform,virtual
+ * levels=50,100,200,400,800,1600,3200 duration=20 warmup=5 slo-p99-ms=500 max-error-rate=0.01
+ * output-dir=target/loadtest}. Durations are in seconds.
+ */
+public final class ThreadModeConcurrencyBenchmark {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final List<String> modes;
+    private final int[] levels;
+    private final Duration duration;
+    private final Duration warmup;
+    private final double sloP99Millis;
+    private final double maxErrorRate;
+    private final Path outputDir;
+
+    private ThreadModeConcurrencyBenchmark(Map<String, String> options) {
+        this.modes = List.of(options.getOrDefault("modes", "platform,virtual").split(","));
+        this.levels = Arrays.stream(options.getOrDefault("levels", "50,100,200,400,800,1600,3200").split(","))
+                .mapToInt(level -> Integer.parseInt(level.trim()))
+                .sorted()
+                .toArray();
+        this.duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "20")));
+        this.warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "5")));
+        this.sloP99Millis = Double.parseDouble(options.getOrDefault("slo-p99-ms", "500"));
+        this.maxErrorRate = Double.parseDouble(options.getOrDefault("max-error-rate", "0.01"));
+        this.outputDir = Path.of(options.getOrDefault("output-dir", "target/loadtest"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(parts[0], parts.length > 1 ? parts[1] : "true");
+        }
+        new ThreadModeConcurrencyBenchmark(options).run();
+    }
+
+    private void run() throws Exception {
+        List<Step> steps = new ArrayList<>();
+        Map<String, Integer> maxSustained = new HashMap<>();
+        for (String mode : modes) {
+            String name = mode.trim();
+            ConfigurableApplicationContext context = start(name);
+            try {
+                URI baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+                long flightId = createFlight(context);
+                System.out.printf("%n%s threads (%s)%n", name, baseUri);
+                System.out.printf("%12s %10s %9s %9s %9s %8s%n", "concurrency", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+                int sustained = 0;
+                for (int level : levels) {
+                    Step step = measure(name, level, baseUri, flightId);
+                    steps.add(step);
+                    System.out.printf("%12d %10.1f %9.2f %9.2f %9.2f %7.2f%%%n", level, step.throughput(),
+                            step.p50Millis(), step.p99Millis(), step.maxMillis(), step.errorRate() * 100);
+                    if (!step.sustained()) {
+                        break;
+                    }
+                    sustained = level;
+                }
+                maxSustained.put(name, sustained);
+            } finally {
+                context.close();
+            }
+        }
+
+        System.out.printf("%nHighest sustained concurrency (p99 <= %.0f ms, errors <= %.1f%%):%n", sloP99Millis, maxErrorRate * 100);
+        maxSustained.forEach((mode, level) -> System.out.printf("  %-9s %s%n", mode,
+                level > 0 ? level : "none of the tested levels"));
+        writeCsv(steps);
+    }
+
+    private static ConfigurableApplicationContext start(String mode) {
+        return switch (mode) {
+            case "platform" -> BenchmarkApplication.start("thread-mode-platform");
+            case "virtual" -> BenchmarkApplication.start("thread-mode-virtual", "spring.profiles.active=virtual");
+            default -> throw new IllegalArgumentException("Unknown thread mode '" + mode + "'; use platform or virtual");
+        };
+    }
+
+    /**
+     * Creates a flight whose airplane has an effectively unlimited capacity, so bookings never sell out.
+     */
+    private static long createFlight(ConfigurableApplicationContext context) {
+        AirplaneRepository airplaneRepository = context.getBean(AirplaneRepository.class);
+        FlightRepository flightRepository = context.getBean(FlightRepository.class);
+        SeatInventoryService seatInventoryService = context.getBean(SeatInventoryService.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        return transactionTemplate.execute(status -> {
+            Airplane airplane = airplaneRepository.save(Airplane.builder()
+                    .tailNumber("TM-001")
+                    .model("Benchmark 1")
+                    .capacity(Integer.MAX_VALUE)
+                    .productionYear(2020)
+                    .status(true)
+                    .build());
+            Flight flight = flightRepository.save(Flight.builder()
+                    .flightNumber("TM1")
+                    .departure("Istanbul Airport")
+                    .destination("Heathrow Airport")
+                    .departureTime(LocalDateTime.of(2030, 1, 1, 9, 0))
+                    .arrivalTime(LocalDateTime.of(2030, 1, 1, 13, 0))
+                    .airplane(airplane)
+                    .build());
+            seatInventoryService.initialize(flight);
+            return flight.getId();
+        });
+    }
+
+    private Step measure(String mode, int concurrency, URI baseUri, long flightId) throws InterruptedException {
+        Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        LongAdder errors = new LongAdder();
+        ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(clientThreads)
+                .build();
+        HttpRequest availability = HttpRequest.newBuilder(baseUri.resolve("/flights/availability?ids=" + flightId))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        List<Thread> clients = new ArrayList<>(concurrency);
+        AtomicBoolean running = new AtomicBoolean(true);
+        for (int i = 0; i < concurrency; i++) {
+            clients.add(Thread.ofVirtual().name("thread-mode-client-", i).start(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (running.get()) {
+                    HttpRequest request = random.nextBoolean() ? availability : booking(baseUri, flightId, random);
+                    long start = System.nanoTime();
+                    boolean ok;
+                    try {
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        ok = response.statusCode() < 400;
+                    } catch (IOException e) {
+                        ok = false;
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    recorder.recordValue(Math.min(System.nanoTime() - start, HIGHEST_TRACKABLE_NANOS));
+                    if (!ok) {
+                        errors.increment();
+                    }
+                }
+            }));
+        }
+
+        Thread.sleep(warmup.toMillis());
+        recorder.reset();
+        errors.reset();
+        long measuredFrom = System.nanoTime();
+        Thread.sleep(duration.toMillis());
+        Histogram latencies = recorder.getIntervalHistogram();
+        long errorCount = errors.sum();
+        double seconds = (System.nanoTime() - measuredFrom) / 1e9;
+
+        running.set(false);
+        for (Thread client : clients) {
+            client.join(TimeUnit.SECONDS.toMillis(35));
+        }
+        clientThreads.shutdownNow();
+
+        long requests = latencies.getTotalCount();
+        double errorRate = requests == 0 ? 1 : (double) errorCount / requests;
+        double p99Millis = millis(latencies.getValueAtPercentile(99));
+        return new Step(mode, concurrency, requests / seconds, millis(latencies.getValueAtPercentile(50)), p99Millis,
+                millis(latencies.getMaxValue()), errorRate,
+                requests > 0 && p99Millis <= sloP99Millis && errorRate <= maxErrorRate);
+    }
+
+    private static HttpRequest booking(URI baseUri, long flightId, ThreadLocalRandom random) {
+        long n = random.nextLong(1_000_000_000L);
+        String body = "{\"passengerName\":\"Load Test " + n + "\",\"passengerEmail\":\"load.test." + n
+                + "@example.com\",\"flightId\":" + flightId + "}";
+        return HttpRequest.newBuilder(baseUri.resolve("/reservations"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private void writeCsv(List<Step> steps) throws IOException {
+        Files.createDirectories(outputDir);
+        Path file = outputDir.resolve("thread-modes.csv");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            out.println("mode,concurrency,requests_per_second,p50_ms,p99_ms,max_ms,error_rate,sustained");
+            for (Step step : steps) {
+                out.printf("%s,%d,%.1f,%.2f,%.2f,%.2f,%.4f,%b%n", step.mode(), step.concurrency(), step.throughput(),
+                        step.p50Millis(), step.p99Millis(), step.maxMillis(), step.errorRate(), step.sustained());
+            }
+        }
+        System.out.println("Results written to " + file.toAbsolutePath());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private record Step(String mode, int concurrency, double throughput, double p50Millis, double p99Millis,
+                        double maxMillis, double errorRate, boolean sustained) {
+    }
+}
@@ -0,0 +1,296 @@
+package org.yashas.AirlineManagement.benchmarks.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop load driver for a running application, typically started with the {@code loadtest} profile.
+ * <p>
+ * Each of {@code --concurrency} workers sends one request, waits for the response and immediately sends the next,
+ * choosing between booking ({@code POST /reservations}), searching ({@code POST /flights/filter}) and patching
+ * ({@code PATCH /reservations/{id}}) according to {@code --mix}. Latencies are recorded per operation in HDR
+ * histograms; requests made during {@code --warmup} are discarded. At the end, throughput and latency percentiles
+ * are printed, and the full percentile distribution of each operation is written to {@code --output-dir}.
+ * <p>
+ * Options (all optional, written as {@code name=value} or {@code --name=value}): {@code base-url=http://localhost:8080
+ * concurrency=16 duration=60 warmup=10 mix=book:20,search:60,patch:20 output-dir=target/loadtest}. Durations are in seconds.
+ */
+public final class LoadDriver {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int SAMPLE_PAGE_SIZE = 1000;
+
+    enum Operation { BOOK, SEARCH, PATCH }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final int concurrency;
+    private final Duration duration;
+    private final Duration warmup;
+    private final Map<Operation, Integer> mix;
+    private final Path outputDir;
+
+    private List<JsonNode> flights;
+    private long[] reservationIds;
+
+    private LoadDriver(Map<String, String> options) {
+        this.baseUri = URI.create(options.getOrDefault("base-url", "http://localhost:8080"));
+        this.concurrency = Integer.parseInt(options.getOrDefault("concurrency", "16"));
+        this.duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+        this.warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        this.mix = parseMix(options.getOrDefault("mix", "book:20,search:60,patch:20"));
+        this.outputDir = Path.of(options.getOrDefault("output-dir", "target/loadtest"));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] parts = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(parts[0], parts.length > 1 ? parts[1] : "true");
+        }
+        new LoadDriver(options).run();
+    }
+
+    private void run() throws Exception {
+        loadSamples();
+        System.out.printf("Driving %s with %d workers for %ds after %ds warmup (mix %s, %d flights, %d reservations sampled)%n",
+                baseUri, concurrency, duration.toSeconds(), warmup.toSeconds(), mix, flights.size(), reservationIds.length);
+
+        List<Worker> workers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Worker worker = new Worker();
+            worker.setName("load-driver-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+
+        Thread.sleep(warmup.toMillis());
+        workers.forEach(Worker::reset);
+        long measuredFrom = System.nanoTime();
+        Thread.sleep(duration.toMillis());
+        workers.forEach(Worker::halt);
+        for (Worker worker : workers) {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - measuredFrom) / 1e9;
+
+        Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+        Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            Histogram total = newHistogram();
+            long errorCount = 0;
+            for (Worker worker : workers) {
+                total.add(worker.latencies.get(operation));
+                errorCount += worker.errors.get(operation);
+            }
+            latencies.put(operation, total);
+            errors.put(operation, errorCount);
+        }
+        report(System.out, latencies, errors, seconds);
+        writeDistributions(latencies);
+    }
+
+    /**
+     * Reads a sample of flights and reservations to build requests from.
+     */
+    private void loadSamples() throws IOException, InterruptedException {
+        flights = new ArrayList<>();
+        objectMapper.readTree(get("/flights?limit=" + SAMPLE_PAGE_SIZE)).path("items").forEach(flights::add);
+        if (flights.isEmpty()) {
+            throw new IllegalStateException("No flights found at " + baseUri + "; start the application with the loadtest profile");
+        }
+        List<Long> ids = new ArrayList<>();
+        objectMapper.readTree(get("/reservations?limit=" + SAMPLE_PAGE_SIZE)).path("items")
+                .forEach(reservation -> ids.add(reservation.path("id").asLong()));
+        reservationIds = ids.stream().mapToLong(Long::longValue).toArray();
+        if (reservationIds.length == 0 && mix.getOrDefault(Operation.PATCH, 0) > 0) {
+            throw new IllegalStateException("No reservations to patch; remove patch from --mix or generate reservations first");
+        }
+    }
+
+    private String get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path)).GET().build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " returned " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private HttpRequest nextRequest(Operation operation, ThreadLocalRandom random) {
+        JsonNode flight = flights.get(random.nextInt(flights.size()));
+        ObjectNode body = objectMapper.createObjectNode();
+        String path;
+        String method;
+        switch (operation) {
+            case BOOK -> {
+                long n = random.nextLong(1_000_000_000L);
+                body.put("passengerName", "Load Test " + n);
+                body.put("passengerEmail", "load.test." + n + "@example.com");
+                body.put("flightId", flight.path("id").asLong());
+                path = "/reservations";
+                method = "POST";
+            }
+            case SEARCH -> {
+                body.put("departureLocation", flight.path("departure").asText());
+                body.put("arrivalLocation", flight.path("destination").asText());
+                body.put("departureDate", flight.path("departureTime").asText().substring(0, 10));
+                path = "/flights/filter";
+                method = "POST";
+            }
+            default -> {
+                body.put("passengerName", "Load Test " + random.nextInt(1_000_000));
+                path = "/reservations/" + reservationIds[random.nextInt(reservationIds.length)];
+                method = "PATCH";
+            }
+        }
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+    }
+
+    private Operation pick(ThreadLocalRandom random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int roll = random.nextInt(total);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty operation mix");
+    }
+
+    private void report(PrintStream out, Map<Operation, Histogram> latencies, Map<Operation, Long> errors, double seconds) {
+        out.printf("%n%-8s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+                "op", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        long totalRequests = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation);
+            long count = histogram.getTotalCount();
+            if (count == 0) {
+                continue;
+            }
+            totalRequests += count;
+            out.printf("%-8s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation.name().toLowerCase(), count, errors.get(operation), count / seconds,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+        out.printf("%-8s %10d %8s %10.1f%n", "total", totalRequests, "", totalRequests / seconds);
+    }
+
+    private void writeDistributions(Map<Operation, Histogram> latencies) throws IOException {
+        Files.createDirectories(outputDir);
+        for (Map.Entry<Operation, Histogram> entry : latencies.entrySet()) {
+            Path file = outputDir.resolve(entry.getKey().name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().outputPercentileDistribution(out, 1_000_000.0);
+            }
+        }
+        System.out.println("Latency distributions (ms) written to " + outputDir.toAbsolutePath());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static Histogram newHistogram() {
+        return new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+    }
+
+    private static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : spec.split(",")) {
+            String[] weight = part.trim().split(":");
+            mix.put(Operation.valueOf(weight[0].trim().toUpperCase()), Integer.parseInt(weight[1].trim()));
+        }
+        return mix;
+    }
+
+    /**
+     * One closed-loop client. Histograms are only touched by this thread while it runs,
+     * and read by the main thread after {@link #join()}.
+     */
+    private final class Worker extends Thread {
+
+        private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+        private final Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+        private volatile boolean running = true;
+        private volatile boolean resetRequested;
+
+        private Worker() {
+            clear();
+        }
+
+        @Override
+        public void run() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (running) {
+                if (resetRequested) {
+                    clear();
+                    resetRequested = false;
+                }
+                Operation operation = pick(random);
+                HttpRequest request = nextRequest(operation, random);
+                long start = System.nanoTime();
+                boolean ok;
+                try {
+                    HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                    ok = response.statusCode() < 400;
+                } catch (IOException e) {
+                    ok = false;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                latencies.get(operation).recordValue(Math.min(System.nanoTime() - start, HIGHEST_TRACKABLE_NANOS));
+                if (!ok) {
+                    errors.merge(operation, 1L, Long::sum);
+                }
+            }
+        }
+
+        private void clear() {
+            for (Operation operation : Operation.values()) {
+                latencies.put(operation, newHistogram());
+                errors.put(operation, 0L);
+            }
+        }
+
+        void reset() {
+            resetRequested = true;
+        }
+
+        void halt() {
+            running = false;
+        }
+    }
+}
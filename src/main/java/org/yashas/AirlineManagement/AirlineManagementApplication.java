@@ -2,8 +2,15 @@ package org.yashas.AirlineManagement;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// The reactive flight API manages its own R2DBC pool; an auto-configured one would add a second transaction manager
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
+@EnableScheduling
+@EnableCaching
 public class AirlineManagementApplication {
 
 	public static void main(String[] args) {
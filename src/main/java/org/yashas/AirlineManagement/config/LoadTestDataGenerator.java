@@ -0,0 +1,248 @@
+package org.yashas.AirlineManagement.config;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.yashas.AirlineManagement.model.Airplane;
+import org.yashas.AirlineManagement.model.Flight;
+import org.yashas.AirlineManagement.model.FlightInventory;
+import org.yashas.AirlineManagement.model.Reservation;
+import org.yashas.AirlineManagement.repository.AirplaneRepository;
+import org.yashas.AirlineManagement.service.interfaces.ReservationCodeGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * Generates a production-sized data set when the {@code loadtest} profile is active, in place of {@link SeedData}.
+ * <p>
+ * Airplanes, flights, reservations and seat counters are persisted in chunks of {@code loadtest.data.chunk-size}
+ * rows per transaction; Hibernate sends the inserts as JDBC batches of {@code hibernate.jdbc.batch_size}.
+ * Airport popularity follows a Zipf-like distribution, so a few hubs carry most routes, as in a real network.
+ * The same seed always produces the same data set, with departures relative to the day of the run.
+ */
+@Component
+@Profile("loadtest")
+@Slf4j
+public class LoadTestDataGenerator implements CommandLineRunner {
+
+    private static final int[] CAPACITIES = {150, 180, 189, 220, 296, 350};
+    private static final String[] MODELS = {"Airbus A320", "Airbus A321neo", "Boeing 737-800", "Airbus A330", "Boeing 787-9", "Boeing 777-300ER"};
+    private static final String[] FIRST_NAMES = {"Ada", "Alan", "Grace", "Linus", "Margaret", "Dennis", "Barbara", "Ken", "Frances", "Edsger"};
+    private static final String[] LAST_NAMES = {"Lovelace", "Turing", "Hopper", "Torvalds", "Hamilton", "Ritchie", "Liskov", "Thompson", "Allen", "Dijkstra"};
+
+    private final AirplaneRepository airplaneRepository;
+    private final ReservationCodeGenerator reservationCodeGenerator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int airplaneCount;
+    private final int flightCount;
+    private final int reservationCount;
+    private final int airportCount;
+    private final int days;
+    private final long seed;
+    private final int chunkSize;
+
+    public LoadTestDataGenerator(AirplaneRepository airplaneRepository,
+                                 ReservationCodeGenerator reservationCodeGenerator,
+                                 EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${loadtest.data.airplanes:200}") int airplaneCount,
+                                 @Value("${loadtest.data.flights:100000}") int flightCount,
+                                 @Value("${loadtest.data.reservations:1000000}") int reservationCount,
+                                 @Value("${loadtest.data.airports:120}") int airportCount,
+                                 @Value("${loadtest.data.days:90}") int days,
+                                 @Value("${loadtest.data.seed:42}") long seed,
+                                 @Value("${loadtest.data.chunk-size:5000}") int chunkSize) {
+        this.airplaneRepository = airplaneRepository;
+        this.reservationCodeGenerator = reservationCodeGenerator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.airplaneCount = Math.max(1, airplaneCount);
+        this.flightCount = flightCount;
+        this.reservationCount = reservationCount;
+        this.airportCount = Math.max(2, airportCount);
+        this.days = Math.max(1, days);
+        this.seed = seed;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public void run(String... args) {
+        if (airplaneRepository.count() > 0) {
+            log.info("Data already exists in the database; skipping load-test data generation.");
+            return;
+        }
+        long start = System.nanoTime();
+        Random random = new Random(seed);
+
+        long[] airplaneIds = new long[airplaneCount];
+        int[] airplaneCapacities = new int[airplaneCount];
+        inChunks(airplaneCount, i -> {
+            int type = random.nextInt(CAPACITIES.length);
+            Airplane airplane = Airplane.builder()
+                    .tailNumber(String.format("LT-%05d", i + 1))
+                    .model(MODELS[type])
+                    .capacity(CAPACITIES[type])
+                    .productionYear(1995 + random.nextInt(30))
+                    .status(true)
+                    .build();
+            entityManager.persist(airplane);
+            airplaneIds[i] = airplane.getId();
+            airplaneCapacities[i] = airplane.getCapacity();
+        });
+
+        String[] airports = airportNames();
+        double[] popularity = cumulativePopularity();
+        LocalDateTime firstDay = LocalDate.now().plusDays(1).atStartOfDay();
+        long[] flightIds = new long[flightCount];
+        int[] flightCapacities = new int[flightCount];
+        inChunks(flightCount, i -> {
+            int from = pickAirport(random, popularity);
+            int to = pickAirport(random, popularity);
+            while (to == from) {
+                to = pickAirport(random, popularity);
+            }
+            int airplane = random.nextInt(airplaneCount);
+            LocalDateTime departureTime = firstDay
+                    .plusDays(random.nextInt(days))
+                    .plusMinutes(5L * random.nextInt(24 * 12));
+            Flight flight = Flight.builder()
+                    .flightNumber("LT" + (i + 1))
+                    .departure(airports[from])
+                    .destination(airports[to])
+                    .departureTime(departureTime)
+                    .arrivalTime(departureTime.plusMinutes(blockMinutes(from, to)))
+                    .airplane(entityManager.getReference(Airplane.class, airplaneIds[airplane]))
+                    .build();
+            entityManager.persist(flight);
+            flightIds[i] = flight.getId();
+            flightCapacities[i] = airplaneCapacities[airplane];
+        });
+
+        int[] seatsBooked = new int[flightCount];
+        int reservations = flightCount == 0 ? 0 : insertReservations(random, flightIds, flightCapacities, seatsBooked);
+
+        inChunks(flightCount, i -> entityManager.persist(
+                new FlightInventory(flightIds[i], flightCapacities[i], seatsBooked[i])));
+
+        log.info("Generated {} airplanes, {} flights between {} airports and {} reservations in {} s",
+                airplaneCount, flightCount, airportCount, reservations,
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+    }
+
+    /**
+     * Books reservations on random flights, moving on to the next flight when one is full.
+     *
+     * @return number of reservations created; lower than requested only if every flight sold out
+     */
+    private int insertReservations(Random random, long[] flightIds, int[] flightCapacities, int[] seatsBooked) {
+        int[] created = {0};
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < reservationCount; from += chunkSize) {
+            int size = Math.min(chunkSize, reservationCount - from);
+            List<String> codes = reservationCodeGenerator.nextCodes(size);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < size; i++) {
+                    int flight = findFlightWithSeat(random.nextInt(flightIds.length), flightCapacities, seatsBooked);
+                    if (flight < 0) {
+                        break;
+                    }
+                    seatsBooked[flight]++;
+                    String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                    String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                    entityManager.persist(Reservation.builder()
+                            .passengerName(firstName + " " + lastName)
+                            .passengerEmail((firstName + "." + lastName + "." + (created[0] + 1) + "@example.com").toLowerCase())
+                            .reservationCode(codes.get(i))
+                            .status(true)
+                            .createdAt(now.minusMinutes(random.nextInt(60 * 24 * 30)))
+                            .flight(entityManager.getReference(Flight.class, flightIds[flight]))
+                            .build());
+                    created[0]++;
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+            if (created[0] < from + size) {
+                log.warn("All generated flights are fully booked; stopping at {} reservations.", created[0]);
+                break;
+            }
+        }
+        return created[0];
+    }
+
+    private static int findFlightWithSeat(int start, int[] flightCapacities, int[] seatsBooked) {
+        for (int offset = 0; offset < seatsBooked.length; offset++) {
+            int flight = (start + offset) % seatsBooked.length;
+            if (seatsBooked[flight] < flightCapacities[flight]) {
+                return flight;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Runs {@code persistOne} for each index, one transaction per chunk, clearing the persistence context after each chunk.
+     */
+    private void inChunks(int total, IntConsumer persistOne) {
+        for (int from = 0; from < total; from += chunkSize) {
+            int chunkStart = from;
+            int chunkEnd = Math.min(total, from + chunkSize);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = chunkStart; i < chunkEnd; i++) {
+                    persistOne.accept(i);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+    }
+
+    private String[] airportNames() {
+        String[] names = new String[airportCount];
+        for (int i = 0; i < airportCount; i++) {
+            names[i] = "Airport " + (char) ('A' + i / 676 % 26) + (char) ('A' + i / 26 % 26) + (char) ('A' + i % 26);
+        }
+        return names;
+    }
+
+    /**
+     * Cumulative Zipf weights (exponent 1): airport {@code i} is picked with probability proportional to {@code 1 / (i + 1)}.
+     */
+    private double[] cumulativePopularity() {
+        double[] cumulative = new double[airportCount];
+        double total = 0;
+        for (int i = 0; i < airportCount; i++) {
+            total += 1.0 / (i + 1);
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < airportCount; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+
+    private static int pickAirport(Random random, double[] cumulativePopularity) {
+        int index = Arrays.binarySearch(cumulativePopularity, random.nextDouble());
+        return Math.min(index < 0 ? -index - 1 : index, cumulativePopularity.length - 1);
+    }
+
+    /**
+     * Scheduled flight time of a route, 45 minutes to 12 hours, the same in both directions.
+     */
+    private static long blockMinutes(int from, int to) {
+        int low = Math.min(from, to);
+        int high = Math.max(from, to);
+        return 45 + (low * 31L + high * 17L) % 676;
+    }
+}
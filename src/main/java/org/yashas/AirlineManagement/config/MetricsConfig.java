@@ -0,0 +1,71 @@
+package org.yashas.AirlineManagement.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.yashas.AirlineManagement.service.implementations.EmailDispatchService;
+import org.yashas.AirlineManagement.util.metrics.StatementCountInterceptor;
+import org.yashas.AirlineManagement.util.metrics.StatementCounter;
+
+/**
+ * Application metrics beyond the Spring Boot defaults.
+ * Service timings come from {@code @Timed} on the service classes; this class wires the per-request
+ * SQL statement counter into Hibernate and the web layer, and exposes the email dispatcher's state.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer(StatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+    }
+
+    @Bean
+    public WebMvcConfigurer statementCountConfigurer(StatementCountInterceptor statementCountInterceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(statementCountInterceptor);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder emailDispatchMetrics(EmailDispatchService emailDispatchService) {
+        return registry -> {
+            Gauge.builder("airline.mail.queue.depth", emailDispatchService, EmailDispatchService::getQueueDepth)
+                    .description("Emails waiting to be sent")
+                    .register(registry);
+            Gauge.builder("airline.mail.queue.capacity", emailDispatchService, EmailDispatchService::getQueueCapacity)
+                    .description("Maximum number of emails that can wait to be sent")
+                    .register(registry);
+            Gauge.builder("airline.mail.latency.max", emailDispatchService, EmailDispatchService::getMaxLatencyMillis)
+                    .description("Longest time from enqueue to delivery")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            FunctionCounter.builder("airline.mail.sent", emailDispatchService, EmailDispatchService::getSentCount)
+                    .description("Emails delivered")
+                    .register(registry);
+            FunctionCounter.builder("airline.mail.failed", emailDispatchService, EmailDispatchService::getFailedCount)
+                    .description("Emails given up on after all attempts")
+                    .register(registry);
+            FunctionCounter.builder("airline.mail.rejected", emailDispatchService, EmailDispatchService::getRejectedCount)
+                    .description("Emails rejected because the queue was full")
+                    .register(registry);
+            FunctionCounter.builder("airline.mail.retries", emailDispatchService, EmailDispatchService::getRetryCount)
+                    .description("Email delivery retries")
+                    .register(registry);
+        };
+    }
+}
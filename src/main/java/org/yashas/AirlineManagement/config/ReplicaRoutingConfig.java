@@ -0,0 +1,98 @@
+package org.yashas.AirlineManagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.yashas.AirlineManagement.util.constant.MetricNames;
+import org.yashas.AirlineManagement.util.datasource.LagAwareReplicaDataSource;
+import org.yashas.AirlineManagement.util.datasource.ReplicaLagMonitor;
+import javax.sql.DataSource;
+
+/**
+ * Sends read-only transactions to a read replica and everything else to the primary database,
+ * enabled with {@code datasource.replica.enabled=true}.
+ * <p>
+ * The application's {@code DataSource} is a {@link LazyConnectionDataSourceProxy}: a transaction's connection
+ * is only fetched at its first statement, after {@code @Transactional(readOnly = true)} has marked it read-only,
+ * and read-only connections come from the replica pool. While {@link ReplicaLagMonitor} finds the replica
+ * unreachable or too far behind, they come from the primary pool instead. Flyway and the schema tools never
+ * ask for read-only connections, so they always run against the primary.
+ * <p>
+ * Routing needs each transaction to get its own connection, which open-in-view prevents: it keeps one entity
+ * manager, and the connection it first fetched, for a whole web request, so a write after a read-only lookup
+ * would go to the replica. Startup therefore fails unless {@code spring.jpa.open-in-view=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        replica.setPoolName("airline-db-replica");
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primary,
+                                               @Qualifier("replicaDataSource") DataSource replica,
+                                               @Value("${datasource.replica.max-lag-ms:5000}") long maxLagMillis) {
+        return new ReplicaLagMonitor(primary, replica, maxLagMillis);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 @Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException(
+                    "datasource.replica.enabled=true requires spring.jpa.open-in-view=false: an entity manager kept open "
+                            + "for the whole request would reuse a read-only transaction's replica connection for later writes");
+        }
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new LagAwareReplicaDataSource(primary, replica, replicaLagMonitor));
+        return dataSource;
+    }
+
+    @Bean
+    public MeterBinder replicaLagMetrics(ReplicaLagMonitor replicaLagMonitor) {
+        return registry -> {
+            Gauge.builder(MetricNames.REPLICA_LAG, replicaLagMonitor, ReplicaLagMonitor::getLagMillis)
+                    .description("Age of the replica's heartbeat at the last check; -1 if it could not be read")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            Gauge.builder(MetricNames.REPLICA_USABLE, replicaLagMonitor, monitor -> monitor.isReplicaUsable() ? 1 : 0)
+                    .description("1 while read-only transactions are routed to the replica, 0 while they fall back to the primary")
+                    .register(registry);
+        };
+    }
+}
@@ -9,11 +9,13 @@ import org.yashas.AirlineManagement.repository.AirplaneRepository;
 import org.yashas.AirlineManagement.repository.FlightRepository;
 import org.yashas.AirlineManagement.repository.ReservationRepository;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import lombok.RequiredArgsConstructor;
 
 // I added this class to facilitate more efficient and easier testing.
 @Component
+@Profile("!loadtest & !prod")
 @RequiredArgsConstructor
 public class SeedData implements CommandLineRunner {
 
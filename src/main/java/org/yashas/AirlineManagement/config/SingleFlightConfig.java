@@ -0,0 +1,27 @@
+package org.yashas.AirlineManagement.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.yashas.AirlineManagement.payload.airplane.AirplaneResponseDTO;
+import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
+import org.yashas.AirlineManagement.util.concurrent.SingleFlight;
+import org.yashas.AirlineManagement.util.constant.CacheNames;
+
+/**
+ * Coalescing of concurrent flight and airplane lookups by ID. The services load through these when
+ * the DTO cache misses; {@code CacheInvalidationListener} makes them forget a key along with its cache entry.
+ */
+@Configuration
+public class SingleFlightConfig {
+
+    @Bean
+    public SingleFlight<Long, FlightResponseDTO> flightLookups(MeterRegistry meterRegistry) {
+        return new SingleFlight<>(CacheNames.FLIGHTS, meterRegistry);
+    }
+
+    @Bean
+    public SingleFlight<Long, AirplaneResponseDTO> airplaneLookups(MeterRegistry meterRegistry) {
+        return new SingleFlight<>(CacheNames.AIRPLANES, meterRegistry);
+    }
+}
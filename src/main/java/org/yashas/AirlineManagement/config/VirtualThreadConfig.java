@@ -0,0 +1,57 @@
+package org.yashas.AirlineManagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.yashas.AirlineManagement.util.concurrent.CarrierThreads;
+import org.yashas.AirlineManagement.util.concurrent.VirtualThreadPinningMonitor;
+import org.yashas.AirlineManagement.util.datasource.ThreadLimitedDataSource;
+import java.time.Duration;
+
+/**
+ * Guards for the virtual-thread execution mode, enabled with {@code spring.threads.virtual.enabled=true}
+ * (the {@code virtual} profile). Spring Boot then serves each request and runs scheduled work on a virtual
+ * thread; {@code EmailDispatchService} starts its workers on virtual threads as well.
+ * <p>
+ * Blocking while holding a monitor pins a virtual thread to its carrier, and JDBC work against the embedded
+ * H2 engine does exactly that. The pools of H2 databases are therefore wrapped in a
+ * {@link ThreadLimitedDataSource}: fewer threads than there are carriers may hold H2 connections at once, so
+ * they can never pin them all, while a thread that holds one can still open the nested connections of
+ * {@code REQUIRES_NEW} transactions. The pools keep their configured size. pgjdbc uses
+ * {@code java.util.concurrent} locks and its pools are left alone. Remaining pinning is reported by
+ * {@link VirtualThreadPinningMonitor}.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                                                   @Value("${threads.virtual.pinned-threshold-ms:20}") long thresholdMs) {
+        return new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(thresholdMs));
+    }
+
+    @Bean
+    public static BeanPostProcessor embeddedDatabaseThreadLimit() {
+        ThreadLimitedDataSource.Limit limit = new ThreadLimitedDataSource.Limit(CarrierThreads.maxPinnable());
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource dataSource)
+                        || dataSource.getJdbcUrl() == null || !dataSource.getJdbcUrl().startsWith("jdbc:h2:")) {
+                    return bean;
+                }
+                log.info("At most {} threads use connection pool {} at once: H2 blocks while pinning virtual threads "
+                        + "and {} carrier threads are available", limit.getThreads(), beanName, CarrierThreads.parallelism());
+                return new ThreadLimitedDataSource(dataSource, limit, Duration.ofMillis(dataSource.getConnectionTimeout()));
+            }
+        };
+    }
+}
@@ -6,10 +6,13 @@ import java.util.Map;
 import org.yashas.AirlineManagement.payload.airplane.AirplaneRequestDTO;
 import org.yashas.AirlineManagement.payload.airplane.AirplaneResponseDTO;
 import org.yashas.AirlineManagement.payload.airplane.PartialAirplaneRequestDTO;
+import org.yashas.AirlineManagement.payload.common.CursorPage;
 import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
 import org.yashas.AirlineManagement.service.interfaces.AirplaneService;
 import org.yashas.AirlineManagement.service.interfaces.FlightService;
 import org.yashas.AirlineManagement.util.constant.AirplaneSuccess;
+import org.yashas.AirlineManagement.util.pagination.NdjsonStreamer;
+import org.yashas.AirlineManagement.util.pagination.PageLimits;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,8 +21,10 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestBody; 
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -30,13 +35,22 @@ public class AirplaneController {
 
     private final AirplaneService airplaneService;
     private final FlightService flightService;
+    private final PageLimits pageLimits;
+    private final NdjsonStreamer ndjsonStreamer;
 
     @GetMapping(produces = "application/json")
-    public ResponseEntity<List<AirplaneResponseDTO>> getAllAirplanes() {
-        List<AirplaneResponseDTO> airplanes = airplaneService.getAllAirplanes();
+    public ResponseEntity<CursorPage<AirplaneResponseDTO>> getAllAirplanes(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<AirplaneResponseDTO> airplanes = airplaneService.getAllAirplanes(after, pageLimits.resolve(limit));
         return ResponseEntity.ok(airplanes);
     }
 
+    @GetMapping(value = "/stream", produces = NdjsonStreamer.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllAirplanes() {
+        return ndjsonStreamer.stream(airplaneService::streamAllAirplanes);
+    }
+
     @GetMapping(value = "/{id}", produces = "application/json")
     public ResponseEntity<AirplaneResponseDTO> getAirplaneById(@PathVariable Long id) {
         AirplaneResponseDTO airplane = airplaneService.getAirplaneById(id);
@@ -0,0 +1,37 @@
+package org.yashas.AirlineManagement.controller;
+
+import java.util.List;
+import java.util.Set;
+import org.yashas.AirlineManagement.service.interfaces.EventStreamService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/events")
+@RequiredArgsConstructor
+public class EventStreamController {
+
+    private final EventStreamService eventStreamService;
+
+    /**
+     * Streams flight and reservation changes as Server-Sent Events.
+     * Browsers' EventSource resends the last event ID on reconnect; other clients may pass it as {@code lastEventId}.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(required = false) List<Long> flightIds,
+            @RequestParam(required = false) Long lastEventId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader) {
+        return eventStreamService.subscribe(
+                types == null ? Set.of() : Set.copyOf(types),
+                flightIds == null ? Set.of() : Set.copyOf(flightIds),
+                lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+}
@@ -3,14 +3,22 @@ package org.yashas.AirlineManagement.controller;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import org.yashas.AirlineManagement.exception.state.TooManyIdsRequestedException;
+import org.yashas.AirlineManagement.payload.common.CursorPage;
+import org.yashas.AirlineManagement.payload.flight.FlightAvailabilityDTO;
 import org.yashas.AirlineManagement.payload.flight.FlightFilterRequestDTO;
 import org.yashas.AirlineManagement.payload.flight.FlightRequestDTO;
 import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
 import org.yashas.AirlineManagement.payload.flight.PartialFlightRequestDTO;
+import org.yashas.AirlineManagement.payload.itinerary.ItineraryResponseDTO;
+import org.yashas.AirlineManagement.payload.itinerary.ItinerarySearchRequestDTO;
 import org.yashas.AirlineManagement.payload.reservation.ReservationResponseDTO;
 import org.yashas.AirlineManagement.service.interfaces.FlightService;
+import org.yashas.AirlineManagement.service.interfaces.ItineraryService;
 import org.yashas.AirlineManagement.service.interfaces.ReservationService;
 import org.yashas.AirlineManagement.util.constant.FlightSuccess;
+import org.yashas.AirlineManagement.util.pagination.NdjsonStreamer;
+import org.yashas.AirlineManagement.util.pagination.PageLimits;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -19,8 +27,10 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestBody; 
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -31,13 +41,31 @@ public class FlightController {
 
     private final FlightService flightService;
     private final ReservationService reservationService;
+    private final ItineraryService itineraryService;
+    private final PageLimits pageLimits;
+    private final NdjsonStreamer ndjsonStreamer;
 
     @GetMapping(produces = "application/json")
-    public ResponseEntity<List<FlightResponseDTO>> getAllFlights() {
-        List<FlightResponseDTO> flights = flightService.getAllFlights();
+    public ResponseEntity<CursorPage<FlightResponseDTO>> getAllFlights(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<FlightResponseDTO> flights = flightService.getAllFlights(after, pageLimits.resolve(limit));
         return ResponseEntity.ok(flights);
     }
 
+    @GetMapping(value = "/stream", produces = NdjsonStreamer.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllFlights() {
+        return ndjsonStreamer.stream(flightService::streamAllFlights);
+    }
+
+    @GetMapping(value = "/availability", produces = "application/json")
+    public List<FlightAvailabilityDTO> getFlightAvailability(@RequestParam List<Long> ids) {
+        if (ids.size() > pageLimits.getMaxLimit()) {
+            throw new TooManyIdsRequestedException(ids.size(), pageLimits.getMaxLimit());
+        }
+        return flightService.getFlightAvailability(ids);
+    }
+
     @GetMapping(value = "/{id}", produces = "application/json")
     public ResponseEntity<FlightResponseDTO> getFlightById(@PathVariable Long id) {
         FlightResponseDTO flight = flightService.getFlightById(id);
@@ -45,9 +73,13 @@ public class FlightController {
     }
 
     @GetMapping(value = "/{id}/reservations", produces = "application/json")
-    public ResponseEntity<Object> getReservationsForFlight(@PathVariable Long id) {
-        List<ReservationResponseDTO> reservations = reservationService.getReservationsByFlightId(id);
-        if (reservations.isEmpty()) {
+    public ResponseEntity<Object> getReservationsForFlight(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<ReservationResponseDTO> reservations =
+                reservationService.getReservationsByFlightId(id, after, pageLimits.resolve(limit));
+        if (after == null && reservations.getItems().isEmpty()) {
             Map<String, String> response = new HashMap<>();
             response.put("message", FlightSuccess.NO_RESERVATIONS_FOR_FLIGHT.getMessage());
             return ResponseEntity.ok(response);
@@ -55,6 +87,14 @@ public class FlightController {
         return ResponseEntity.ok(reservations);
     }
 
+    @GetMapping(value = "/{id}/reservations/stream", produces = NdjsonStreamer.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamReservationsForFlight(@PathVariable Long id) {
+        // Fail with a 404 before the streamed response is committed
+        flightService.getFlightById(id);
+        return ndjsonStreamer.<ReservationResponseDTO>stream(
+                consumer -> reservationService.streamReservationsByFlightId(id, consumer));
+    }
+
     @PostMapping(consumes = "application/json", produces = "application/json")
     public ResponseEntity<Map<String, Object>> createFlight(@RequestBody @Valid FlightRequestDTO flightRequestDTO) {
         FlightResponseDTO createdFlight = flightService.createFlight(flightRequestDTO);
@@ -70,6 +110,11 @@ public class FlightController {
         return flightService.getFilteredFlights(flightFilterRequestDTO);
     }
 
+    @PostMapping(value = "/itineraries", consumes = "application/json", produces = "application/json")
+    public List<ItineraryResponseDTO> searchItineraries(@RequestBody @Valid ItinerarySearchRequestDTO itinerarySearchRequestDTO) {
+        return itineraryService.searchItineraries(itinerarySearchRequestDTO);
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<Map<String, Object>> partiallyUpdateFlight(
             @PathVariable Long id,
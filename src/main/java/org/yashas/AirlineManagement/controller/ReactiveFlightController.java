@@ -0,0 +1,50 @@
+package org.yashas.AirlineManagement.controller;
+
+import java.util.List;
+import org.yashas.AirlineManagement.exception.state.TooManyIdsRequestedException;
+import org.yashas.AirlineManagement.payload.flight.FlightAvailabilityDTO;
+import org.yashas.AirlineManagement.payload.flight.FlightFilterRequestDTO;
+import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
+import org.yashas.AirlineManagement.service.interfaces.ReactiveFlightService;
+import org.yashas.AirlineManagement.util.pagination.NdjsonStreamer;
+import org.yashas.AirlineManagement.util.pagination.PageLimits;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+/**
+ * Non-blocking flight search and availability. Responses are streamed one item per line
+ * ({@code application/x-ndjson}, the default), or collected into a JSON array for {@code Accept: application/json}.
+ */
+@RestController
+@RequestMapping("/reactive/flights")
+@RequiredArgsConstructor
+public class ReactiveFlightController {
+
+    private final ReactiveFlightService reactiveFlightService;
+    private final PageLimits pageLimits;
+
+    @GetMapping(produces = {NdjsonStreamer.APPLICATION_NDJSON_VALUE, "application/json"})
+    public Flux<FlightResponseDTO> streamFlights(@RequestParam(required = false) Long after) {
+        return reactiveFlightService.streamFlights(after);
+    }
+
+    @PostMapping(value = "/filter", consumes = "application/json",
+            produces = {NdjsonStreamer.APPLICATION_NDJSON_VALUE, "application/json"})
+    public Flux<FlightResponseDTO> searchFlights(@RequestBody FlightFilterRequestDTO flightFilterRequestDTO) {
+        return reactiveFlightService.searchFlights(flightFilterRequestDTO);
+    }
+
+    @GetMapping(value = "/availability", produces = {NdjsonStreamer.APPLICATION_NDJSON_VALUE, "application/json"})
+    public Flux<FlightAvailabilityDTO> getFlightAvailability(@RequestParam List<Long> ids) {
+        if (ids.size() > pageLimits.getMaxLimit()) {
+            throw new TooManyIdsRequestedException(ids.size(), pageLimits.getMaxLimit());
+        }
+        return reactiveFlightService.getFlightAvailability(ids);
+    }
+}
@@ -1,21 +1,37 @@
 package org.yashas.AirlineManagement.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import org.yashas.AirlineManagement.payload.common.CursorPage;
+import org.yashas.AirlineManagement.payload.reservation.BulkReservationResponseDTO;
 import org.yashas.AirlineManagement.payload.reservation.PartialReservationRequestDTO;
 import org.yashas.AirlineManagement.payload.reservation.ReservationRequestDTO;
 import org.yashas.AirlineManagement.payload.reservation.ReservationResponseDTO;
+import org.yashas.AirlineManagement.service.implementations.ReservationIdempotencyService;
+import org.yashas.AirlineManagement.service.interfaces.ReservationImportService;
 import org.yashas.AirlineManagement.service.interfaces.ReservationService;
 import org.yashas.AirlineManagement.util.constant.ReservationSuccess;
+import org.yashas.AirlineManagement.util.csv.ReservationCsvParser;
+import org.yashas.AirlineManagement.util.pagination.NdjsonStreamer;
+import org.yashas.AirlineManagement.util.pagination.PageLimits;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestBody; 
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -24,14 +40,32 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ReservationController {
 
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
     private final ReservationService reservationService;
+    private final ReservationImportService reservationImportService;
+    private final ReservationIdempotencyService reservationIdempotencyService;
+    private final PageLimits pageLimits;
+    private final NdjsonStreamer ndjsonStreamer;
+
+    @Value("${reservation.bulk.max-rows:100000}")
+    private int maxBulkRows;
 
     @GetMapping(produces = "application/json")
-    public ResponseEntity<List<ReservationResponseDTO>> getAllReservations() {
-        List<ReservationResponseDTO> reservations = reservationService.getAllReservations();
+    public ResponseEntity<CursorPage<ReservationResponseDTO>> getAllReservations(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<ReservationResponseDTO> reservations =
+                reservationService.getAllReservations(after, pageLimits.resolve(limit));
         return ResponseEntity.ok(reservations);
     }
 
+    @GetMapping(value = "/stream", produces = NdjsonStreamer.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllReservations() {
+        return ndjsonStreamer.stream(reservationService::streamAllReservations);
+    }
+
     @GetMapping(value = "/{id}", produces = "application/json")
     public ResponseEntity<ReservationResponseDTO> getReservationById(@PathVariable Long id) {
         ReservationResponseDTO reservation = reservationService.getReservationById(id);
@@ -39,7 +73,19 @@ public class ReservationController {
     }
 
     @PostMapping(consumes = "application/json", produces = "application/json")
-    public ResponseEntity<Map<String, Object>> createReservation(@RequestBody @Valid ReservationRequestDTO reservationRequestDTO) {
+    public ResponseEntity<Map<String, Object>> createReservation(
+            @RequestBody @Valid ReservationRequestDTO reservationRequestDTO,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        if (idempotencyKey != null) {
+            ReservationIdempotencyService.Outcome outcome =
+                    reservationIdempotencyService.createReservation(idempotencyKey, reservationRequestDTO);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .header(IDEMPOTENT_REPLAYED, Boolean.toString(outcome.replayed()))
+                    .body(Map.of(
+                            "message", ReservationSuccess.RESERVATION_CREATED.getMessage(),
+                            "reservation", outcome.reservation()
+                    ));
+        }
         ReservationResponseDTO createdReservation = reservationService.createReservation(reservationRequestDTO);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(Map.of(
@@ -48,6 +94,23 @@ public class ReservationController {
                 ));
     }
 
+    @PostMapping(value = "/bulk", consumes = "application/json", produces = "application/json")
+    public ResponseEntity<Map<String, Object>> importReservations(@RequestBody List<ReservationRequestDTO> reservations) {
+        BulkReservationResponseDTO result = reservationImportService.importReservations(reservations);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(Map.of(
+                        "message", ReservationSuccess.RESERVATIONS_IMPORTED.getMessage(),
+                        "import", result
+                ));
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv", produces = "application/json")
+    public ResponseEntity<Map<String, Object>> importReservationsCsv(InputStream body) throws IOException {
+        List<ReservationRequestDTO> reservations =
+                ReservationCsvParser.parse(new InputStreamReader(body, StandardCharsets.UTF_8), maxBulkRows);
+        return importReservations(reservations);
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<Map<String, Object>> partiallyUpdateReservation(
             @PathVariable Long id,
@@ -58,4 +121,13 @@ public class ReservationController {
                 "reservation", updatedReservation
         ));
     }
-}
\ No newline at end of file
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Map<String, Object>> cancelReservation(@PathVariable Long id) {
+        ReservationResponseDTO cancelledReservation = reservationService.cancelReservation(id);
+        return ResponseEntity.ok(Map.of(
+                "message", ReservationSuccess.RESERVATION_CANCELLED.getMessage(),
+                "reservation", cancelledReservation
+        ));
+    }
+}
@@ -0,0 +1,60 @@
+package org.yashas.AirlineManagement.controller;
+
+import java.util.Map;
+import org.yashas.AirlineManagement.payload.hold.SeatHoldResponseDTO;
+import org.yashas.AirlineManagement.payload.reservation.ReservationRequestDTO;
+import org.yashas.AirlineManagement.payload.reservation.ReservationResponseDTO;
+import org.yashas.AirlineManagement.service.interfaces.SeatHoldService;
+import org.yashas.AirlineManagement.util.constant.ReservationSuccess;
+import org.yashas.AirlineManagement.util.constant.SeatHoldSuccess;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RequestBody;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/holds")
+@RequiredArgsConstructor
+public class SeatHoldController {
+
+    private final SeatHoldService seatHoldService;
+
+    @GetMapping(value = "/{id}", produces = "application/json")
+    public ResponseEntity<SeatHoldResponseDTO> getHoldById(@PathVariable Long id) {
+        SeatHoldResponseDTO hold = seatHoldService.getHoldById(id);
+        return ResponseEntity.ok(hold);
+    }
+
+    @PostMapping(consumes = "application/json", produces = "application/json")
+    public ResponseEntity<Map<String, Object>> createHold(@RequestBody @Valid ReservationRequestDTO holdRequestDTO) {
+        SeatHoldResponseDTO createdHold = seatHoldService.createHold(holdRequestDTO);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(Map.of(
+                        "message", SeatHoldSuccess.HOLD_CREATED.getMessage(),
+                        "hold", createdHold
+                ));
+    }
+
+    @PostMapping(value = "/{id}/confirm", produces = "application/json")
+    public ResponseEntity<Map<String, Object>> confirmHold(@PathVariable Long id) {
+        ReservationResponseDTO reservation = seatHoldService.confirmHold(id);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(Map.of(
+                        "message", ReservationSuccess.RESERVATION_CREATED.getMessage(),
+                        "reservation", reservation
+                ));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<String> releaseHold(@PathVariable Long id) {
+        seatHoldService.releaseHold(id);
+        return ResponseEntity.ok(SeatHoldSuccess.HOLD_RELEASED.getMessageWithId(id));
+    }
+}
@@ -0,0 +1,32 @@
+package org.yashas.AirlineManagement.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by the airplane service whenever an airplane is updated or deleted.
+ * Listeners that hold airplane state outside the database (caches) apply it after commit.
+ * Flights removed together with a deleted airplane are announced separately as {@link FlightChangedEvent}s.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AirplaneChangedEvent {
+
+    public enum ChangeType {
+        UPDATED,
+        DELETED
+    }
+
+    private final ChangeType type;
+    private final Long airplaneId;
+
+    public static AirplaneChangedEvent updated(Long airplaneId) {
+        return new AirplaneChangedEvent(ChangeType.UPDATED, airplaneId);
+    }
+
+    public static AirplaneChangedEvent deleted(Long airplaneId) {
+        return new AirplaneChangedEvent(ChangeType.DELETED, airplaneId);
+    }
+}
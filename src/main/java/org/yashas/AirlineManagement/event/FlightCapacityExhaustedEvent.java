@@ -0,0 +1,17 @@
+package org.yashas.AirlineManagement.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by the seat inventory when a booking takes the last seat of a flight.
+ * Listeners apply it after the booking commits.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class FlightCapacityExhaustedEvent {
+
+    private final Long flightId;
+}
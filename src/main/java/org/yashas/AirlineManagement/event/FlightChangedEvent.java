@@ -0,0 +1,56 @@
+package org.yashas.AirlineManagement.event;
+
+import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by the flight and airplane services whenever a flight is created, updated or deleted,
+ * and by the archival job when a departed flight is moved out of the flight table.
+ * In-memory views over the flight table (route index, itinerary graph) listen for it after the
+ * transaction commits, so they only ever see committed state.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class FlightChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        ARCHIVED
+    }
+
+    private final ChangeType type;
+    private final Long flightId;
+
+    /**
+     * State of the flight after the change; null for {@link ChangeType#DELETED} and {@link ChangeType#ARCHIVED}.
+     */
+    private final FlightResponseDTO flight;
+
+    public static FlightChangedEvent created(FlightResponseDTO flight) {
+        return new FlightChangedEvent(ChangeType.CREATED, flight.getId(), flight);
+    }
+
+    public static FlightChangedEvent updated(FlightResponseDTO flight) {
+        return new FlightChangedEvent(ChangeType.UPDATED, flight.getId(), flight);
+    }
+
+    public static FlightChangedEvent deleted(Long flightId) {
+        return new FlightChangedEvent(ChangeType.DELETED, flightId, null);
+    }
+
+    public static FlightChangedEvent archived(Long flightId) {
+        return new FlightChangedEvent(ChangeType.ARCHIVED, flightId, null);
+    }
+
+    /**
+     * Whether the flight left the flight table, so views over it should drop the flight.
+     */
+    public boolean isRemoval() {
+        return type == ChangeType.DELETED || type == ChangeType.ARCHIVED;
+    }
+}
@@ -0,0 +1,42 @@
+package org.yashas.AirlineManagement.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by the reservation service whenever a reservation is booked, moved to another flight or cancelled.
+ * Listeners apply it after the transaction commits.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ReservationChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        MOVED,
+        CANCELLED
+    }
+
+    private final ChangeType type;
+    private final Long reservationId;
+    private final Long flightId;
+
+    /**
+     * Flight the reservation was moved away from; null unless the type is {@link ChangeType#MOVED}.
+     */
+    private final Long previousFlightId;
+
+    public static ReservationChangedEvent created(Long reservationId, Long flightId) {
+        return new ReservationChangedEvent(ChangeType.CREATED, reservationId, flightId, null);
+    }
+
+    public static ReservationChangedEvent moved(Long reservationId, Long flightId, Long previousFlightId) {
+        return new ReservationChangedEvent(ChangeType.MOVED, reservationId, flightId, previousFlightId);
+    }
+
+    public static ReservationChangedEvent cancelled(Long reservationId, Long flightId) {
+        return new ReservationChangedEvent(ChangeType.CANCELLED, reservationId, flightId, null);
+    }
+}
@@ -4,13 +4,23 @@ import org.yashas.AirlineManagement.exception.entityrelated.AirplaneNotFoundExce
 import org.yashas.AirlineManagement.exception.entityrelated.FlightNotFoundException;
 import org.yashas.AirlineManagement.exception.entityrelated.NoFlightsMatchingCriteriaException;
 import org.yashas.AirlineManagement.exception.entityrelated.ReservationNotFoundException;
+import org.yashas.AirlineManagement.exception.entityrelated.SeatHoldNotFoundException;
 import org.yashas.AirlineManagement.exception.state.AirplaneNotAvailableException;
+import org.yashas.AirlineManagement.exception.state.ConcurrentUpdateConflictException;
 import org.yashas.AirlineManagement.exception.state.DuplicateFlightNumberException;
 import org.yashas.AirlineManagement.exception.state.DuplicateTailNumberException;
 import org.yashas.AirlineManagement.exception.state.FlightFullyBookedException;
+import org.yashas.AirlineManagement.exception.state.FlightGraphLoadingException;
+import org.yashas.AirlineManagement.exception.state.InvalidBulkImportException;
+import org.yashas.AirlineManagement.exception.state.IdempotencyKeyReusedException;
 import org.yashas.AirlineManagement.exception.state.InvalidFlightTimeException;
+import org.yashas.AirlineManagement.exception.state.InvalidIdempotencyKeyException;
 import org.yashas.AirlineManagement.exception.state.NoChangesMadeException;
+import org.yashas.AirlineManagement.exception.state.SeatHoldExpiredException;
+import org.yashas.AirlineManagement.exception.state.TooManyIdsRequestedException;
 import org.yashas.AirlineManagement.payload.error.ErrorResponse;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -175,6 +185,143 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * Handle SeatHoldNotFoundException and return a structured response.
+     * Responds with a 404 Not Found status and the exception message.
+     */
+    @ExceptionHandler(SeatHoldNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleSeatHoldNotFoundException(SeatHoldNotFoundException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.NOT_FOUND.value(),
+                "Seat Hold Not Found",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    /**
+     * Handle SeatHoldExpiredException and return a structured response.
+     * Responds with a 410 Gone status and the exception message.
+     */
+    @ExceptionHandler(SeatHoldExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleSeatHoldExpiredException(SeatHoldExpiredException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.GONE.value(),
+                "Seat Hold Expired",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.GONE).body(errorResponse);
+    }
+
+    /**
+     * Handle FlightGraphLoadingException and return a structured response.
+     * Responds with a 503 Service Unavailable status, asking the client to retry shortly.
+     */
+    @ExceptionHandler(FlightGraphLoadingException.class)
+    public ResponseEntity<ErrorResponse> handleFlightGraphLoadingException(FlightGraphLoadingException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(errorResponse);
+    }
+
+    /**
+     * Handle InvalidBulkImportException and return a structured response.
+     * Responds with a 400 Bad Request status and the exception message.
+     */
+    @ExceptionHandler(InvalidBulkImportException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidBulkImportException(InvalidBulkImportException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Invalid Bulk Import",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handle TooManyIdsRequestedException and return a structured response.
+     * Responds with a 400 Bad Request status and the exception message.
+     */
+    @ExceptionHandler(TooManyIdsRequestedException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyIdsRequestedException(TooManyIdsRequestedException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Too Many IDs",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handle InvalidIdempotencyKeyException and return a structured response.
+     * Responds with a 400 Bad Request status and the exception message.
+     */
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidIdempotencyKeyException(InvalidIdempotencyKeyException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Invalid Idempotency Key",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handle IdempotencyKeyReusedException and return a structured response.
+     * Responds with a 422 Unprocessable Entity status when a key is sent again with a different request body.
+     */
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReusedException(IdempotencyKeyReusedException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                "Idempotency Key Reused",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
+    }
+
+    /**
+     * Handle ConcurrentUpdateConflictException and return a structured response.
+     * Responds with a 409 Conflict status when an update kept losing to concurrent updates.
+     */
+    @ExceptionHandler(ConcurrentUpdateConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentUpdateConflictException(ConcurrentUpdateConflictException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "Concurrent Update",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Handle optimistic-lock failures outside the retrying update paths.
+     * Responds with a 409 Conflict status; the client may retry the request.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "Concurrent Update",
+                "The resource was modified concurrently. Please retry the request.",
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     /**
      * Handle validation errors (MethodArgumentNotValidException).
      * Responds with a 400 Bad Request status and a list of validation errors.
@@ -0,0 +1,8 @@
+package org.yashas.AirlineManagement.exception.entityrelated;
+
+public class SeatHoldNotFoundException extends RuntimeException {
+
+    public SeatHoldNotFoundException(Long id) {
+        super("Seat hold not found with ID: " + id);
+    }
+}
@@ -0,0 +1,8 @@
+package org.yashas.AirlineManagement.exception.state;
+
+public class ConcurrentUpdateConflictException extends RuntimeException {
+
+    public ConcurrentUpdateConflictException(String entityName, Long id) {
+        super("The " + entityName + " with ID " + id + " is being modified concurrently. Please retry the update.");
+    }
+}
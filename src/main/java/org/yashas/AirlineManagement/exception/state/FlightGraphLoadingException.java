@@ -0,0 +1,12 @@
+package org.yashas.AirlineManagement.exception.state;
+
+public class FlightGraphLoadingException extends RuntimeException {
+
+    public FlightGraphLoadingException() {
+        super("Itinerary search is starting up, please retry shortly.");
+    }
+
+    public FlightGraphLoadingException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package org.yashas.AirlineManagement.exception.state;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String key) {
+        super("Idempotency key '" + key + "' was already used for a different request.");
+    }
+}
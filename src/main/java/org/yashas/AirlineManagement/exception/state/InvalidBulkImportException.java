@@ -0,0 +1,8 @@
+package org.yashas.AirlineManagement.exception.state;
+
+public class InvalidBulkImportException extends RuntimeException {
+
+    public InvalidBulkImportException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package org.yashas.AirlineManagement.exception.state;
+
+public class InvalidIdempotencyKeyException extends RuntimeException {
+
+    public InvalidIdempotencyKeyException(int maxLength) {
+        super("The Idempotency-Key header must be between 1 and " + maxLength + " characters long.");
+    }
+}
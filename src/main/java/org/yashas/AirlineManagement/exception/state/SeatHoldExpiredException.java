@@ -0,0 +1,8 @@
+package org.yashas.AirlineManagement.exception.state;
+
+public class SeatHoldExpiredException extends RuntimeException {
+
+    public SeatHoldExpiredException(Long id) {
+        super("Seat hold with ID " + id + " has expired and the seat was released.");
+    }
+}
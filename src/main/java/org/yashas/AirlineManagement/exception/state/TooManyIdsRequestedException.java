@@ -0,0 +1,8 @@
+package org.yashas.AirlineManagement.exception.state;
+
+public class TooManyIdsRequestedException extends RuntimeException {
+
+    public TooManyIdsRequestedException(int requested, int max) {
+        super("Requested " + requested + " IDs; at most " + max + " can be requested at once.");
+    }
+}
@@ -3,15 +3,28 @@ package org.yashas.AirlineManagement.mapper;
 import org.yashas.AirlineManagement.model.Airplane;
 import org.yashas.AirlineManagement.payload.airplane.AirplaneRequestDTO;
 import org.yashas.AirlineManagement.payload.airplane.AirplaneResponseDTO;
+import org.yashas.AirlineManagement.payload.airplane.PartialAirplaneRequestDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
+import org.yashas.AirlineManagement.util.patch.PatchApplier;
 
 @Mapper(componentModel = "spring")
 public interface AirplaneMapper {
 
     AirplaneMapper INSTANCE = Mappers.getMapper(AirplaneMapper.class);
 
+    /**
+     * Applies PATCH requests to airplanes.
+     */
+    PatchApplier<PartialAirplaneRequestDTO, Airplane> PATCH = PatchApplier.<PartialAirplaneRequestDTO, Airplane>builder("airplane")
+            .field("tailNumber", PartialAirplaneRequestDTO::getTailNumber, Airplane::getTailNumber, Airplane::setTailNumber)
+            .field("model", PartialAirplaneRequestDTO::getModel, Airplane::getModel, Airplane::setModel)
+            .field("capacity", PartialAirplaneRequestDTO::getCapacity, Airplane::getCapacity, Airplane::setCapacity)
+            .field("productionYear", PartialAirplaneRequestDTO::getProductionYear, Airplane::getProductionYear, Airplane::setProductionYear)
+            .field("status", PartialAirplaneRequestDTO::getStatus, Airplane::isStatus, Airplane::setStatus)
+            .build();
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "flights", ignore = true)
     Airplane toEntity(AirplaneRequestDTO airplaneRequest);
@@ -1,23 +1,42 @@
 package org.yashas.AirlineManagement.mapper;
 
+import org.yashas.AirlineManagement.model.ArchivedFlight;
 import org.yashas.AirlineManagement.model.Flight;
 import org.yashas.AirlineManagement.payload.flight.FlightRequestDTO;
 import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
+import org.yashas.AirlineManagement.payload.flight.PartialFlightRequestDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 import org.yashas.AirlineManagement.repository.AirplaneRepository;
+import org.yashas.AirlineManagement.util.patch.PatchApplier;
 
 @Mapper(componentModel = "spring")
 public interface FlightMapper {
 
     FlightMapper INSTANCE = Mappers.getMapper(FlightMapper.class);
 
+    /**
+     * Applies PATCH requests to flights. The airplane reference is resolved by the service.
+     */
+    PatchApplier<PartialFlightRequestDTO, Flight> PATCH = PatchApplier.<PartialFlightRequestDTO, Flight>builder("flight")
+            .field("flightNumber", PartialFlightRequestDTO::getFlightNumber, Flight::getFlightNumber, Flight::setFlightNumber)
+            .field("departure", PartialFlightRequestDTO::getDeparture, Flight::getDeparture, Flight::setDeparture)
+            .field("destination", PartialFlightRequestDTO::getDestination, Flight::getDestination, Flight::setDestination)
+            .field("departureTime", PartialFlightRequestDTO::getDepartureTime, Flight::getDepartureTime, Flight::setDepartureTime)
+            .field("arrivalTime", PartialFlightRequestDTO::getArrivalTime, Flight::getArrivalTime, Flight::setArrivalTime)
+            .build();
+
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "reservations", ignore = true)
     @Mapping(target = "airplane", ignore = true)
     Flight toEntity(FlightRequestDTO flightRequest, AirplaneRepository airplaneRepository);
 
     @Mapping(source = "airplane.id", target = "airplaneId")
+    @Mapping(target = "seatsRemaining", ignore = true)
     FlightResponseDTO toResponse(Flight flight);
+
+    @Mapping(target = "seatsRemaining", ignore = true)
+    FlightResponseDTO toResponse(ArchivedFlight flight);
 }
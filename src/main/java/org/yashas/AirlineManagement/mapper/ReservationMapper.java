@@ -1,16 +1,28 @@
 package org.yashas.AirlineManagement.mapper;
 
+import org.yashas.AirlineManagement.model.ArchivedReservation;
 import org.yashas.AirlineManagement.model.Reservation;
 import org.yashas.AirlineManagement.payload.reservation.ReservationRequestDTO;
 import org.yashas.AirlineManagement.payload.reservation.ReservationResponseDTO;
+import org.yashas.AirlineManagement.payload.reservation.PartialReservationRequestDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.yashas.AirlineManagement.repository.FlightRepository;
+import org.yashas.AirlineManagement.util.patch.PatchApplier;
 
 @Mapper(componentModel = "spring")
 public interface ReservationMapper {
 
+    /**
+     * Applies PATCH requests to reservations. Moving to another flight is handled by the service.
+     */
+    PatchApplier<PartialReservationRequestDTO, Reservation> PATCH = PatchApplier.<PartialReservationRequestDTO, Reservation>builder("reservation")
+            .field("passengerName", PartialReservationRequestDTO::getPassengerName, Reservation::getPassengerName, Reservation::setPassengerName)
+            .field("passengerEmail", PartialReservationRequestDTO::getPassengerEmail, Reservation::getPassengerEmail, Reservation::setPassengerEmail)
+            .build();
+
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "reservationCode", ignore = true)
     @Mapping(target = "flight", ignore = true)
@@ -18,4 +30,6 @@ public interface ReservationMapper {
 
     @Mapping(source = "flight.id", target = "flightId")
     ReservationResponseDTO toResponse(Reservation reservation);
+
+    ReservationResponseDTO toResponse(ArchivedReservation reservation);
 }
@@ -0,0 +1,11 @@
+package org.yashas.AirlineManagement.mapper;
+
+import org.yashas.AirlineManagement.model.SeatHold;
+import org.yashas.AirlineManagement.payload.hold.SeatHoldResponseDTO;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface SeatHoldMapper {
+
+    SeatHoldResponseDTO toResponse(SeatHold seatHold);
+}
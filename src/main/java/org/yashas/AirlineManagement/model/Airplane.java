@@ -3,6 +3,10 @@ package org.yashas.AirlineManagement.model;
 import java.util.ArrayList;
 import java.util.List;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.yashas.AirlineManagement.util.constant.CacheNames;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -18,10 +22,13 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 @Table(name="airplane")
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.AIRPLANE_REGION)
 @Setter
 @Getter
 @ToString
@@ -31,7 +38,8 @@ import jakarta.persistence.Table;
 public class Airplane {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "airplane_seq")
+    @SequenceGenerator(name = "airplane_seq", sequenceName = "airplane_seq", allocationSize = 50)
     @Column(name="airplane_id")
     private Long id;
 
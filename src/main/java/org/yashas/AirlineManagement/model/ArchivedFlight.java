@@ -0,0 +1,62 @@
+package org.yashas.AirlineManagement.model;
+
+import java.time.LocalDateTime;
+import org.hibernate.annotations.Immutable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * A flight moved out of the flight table by the archival job, with its seat counter at the time.
+ * Written only by the job's bulk inserts and never changed afterwards.
+ */
+@Table(name="flight_archive", indexes = {
+        @Index(name="idx_flight_archive_arrival_time", columnList="arrival_time")
+})
+@Entity
+@Immutable
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ArchivedFlight {
+
+    @Id
+    @Column(name="flight_id")
+    private Long id;
+
+    @Column(name="flight_number")
+    private String flightNumber;
+
+    @Column(name="departure")
+    private String departure;
+
+    @Column(name="destination")
+    private String destination;
+
+    @Column(name="departure_time")
+    private LocalDateTime departureTime;
+
+    @Column(name="arrival_time")
+    private LocalDateTime arrivalTime;
+
+    @Column(name="airplane_id", nullable = false)
+    private Long airplaneId;
+
+    @Column(name="capacity")
+    private Integer capacity;
+
+    @Column(name="seats_booked")
+    private Integer seatsBooked;
+
+    @Column(name="archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
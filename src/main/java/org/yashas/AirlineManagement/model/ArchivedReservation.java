@@ -0,0 +1,55 @@
+package org.yashas.AirlineManagement.model;
+
+import java.time.LocalDateTime;
+import org.hibernate.annotations.Immutable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * A reservation archived together with its flight. Written only by the archival job.
+ */
+@Table(name="reservation_archive", indexes = {
+        @Index(name="idx_reservation_archive_flight", columnList="flight_id, reservation_id")
+})
+@Entity
+@Immutable
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ArchivedReservation {
+
+    @Id
+    @Column(name="reservation_id")
+    private Long id;
+
+    @Column(name="passenger_name")
+    private String passengerName;
+
+    @Column(name="passenger_email")
+    private String passengerEmail;
+
+    @Column(name="reservation_code")
+    private String reservationCode;
+
+    @Column(name="status")
+    private boolean status;
+
+    @Column(name="created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name="flight_id", nullable = false)
+    private Long flightId;
+
+    @Column(name="archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -4,16 +4,24 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.yashas.AirlineManagement.util.constant.CacheNames;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,8 +30,14 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
-@Table(name="flight")
+@Table(name="flight", indexes = {
+        @Index(name="idx_flight_route_departure", columnList="departure, destination, departure_time"),
+        @Index(name="idx_flight_airplane", columnList="airplane_id"),
+        @Index(name="idx_flight_arrival_time", columnList="arrival_time")
+})
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.FLIGHT_REGION)
 @Setter
 @Getter
 @ToString
@@ -33,7 +47,8 @@ import lombok.ToString;
 public class Flight {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "flight_seq")
+    @SequenceGenerator(name = "flight_seq", sequenceName = "flight_seq", allocationSize = 50)
     @Column(name="flight_id")
     private Long id;
 
@@ -55,8 +70,15 @@ public class Flight {
     @Column(name="arrival_time")
     private LocalDateTime arrivalTime;
 
+    // Optimistic locking: a PATCH based on a stale read fails instead of overwriting a concurrent one
+    @Version
+    @Column(name="version")
+    private Long version;
+
     // Airplane 1--------M Flight
-    @ManyToOne
+    // Lazy: responses only need the airplane ID, which the proxy holds without a select
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     @JoinColumn(name = "airplane_id", referencedColumnName = "airplane_id", nullable = false)
     private Airplane airplane;
 
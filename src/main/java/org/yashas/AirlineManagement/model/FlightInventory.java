@@ -0,0 +1,38 @@
+package org.yashas.AirlineManagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Seat counter of a flight.
+ * Seats are taken and returned with conditional updates on this row, so a booking costs
+ * the same no matter how many reservations the flight already has.
+ */
+@Table(name="flight_inventory")
+@Entity
+@Setter
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class FlightInventory {
+
+    @Id
+    @Column(name="flight_id")
+    private Long flightId;
+
+    @Column(name="capacity", nullable = false)
+    private int capacity;
+
+    @Column(name="seats_booked", nullable = false)
+    private int seatsBooked;
+}
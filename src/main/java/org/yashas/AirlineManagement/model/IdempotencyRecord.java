@@ -0,0 +1,53 @@
+package org.yashas.AirlineManagement.model;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Outcome of a reservation request sent with an {@code Idempotency-Key} header.
+ * Written in the transaction that creates the reservation, so a retry of the request
+ * finds either both or neither, and is answered with the stored response.
+ */
+@Table(name="idempotency_record", indexes = {
+        @Index(name="idx_idempotency_record_expires_at", columnList="expires_at")
+})
+@Entity
+@Setter
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name="idempotency_key", length = 255)
+    private String key;
+
+    /** SHA-256 of the request body, to tell a retry from a different request reusing the key. */
+    @Column(name="request_hash", length = 64, nullable = false)
+    private String requestHash;
+
+    @Column(name="reservation_id", nullable = false)
+    private Long reservationId;
+
+    /** The reservation response DTO as JSON. */
+    @Column(name="response_body", length = 4000, nullable = false)
+    private String responseBody;
+
+    @Column(name="created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name="expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,81 @@
+package org.yashas.AirlineManagement.model;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Passenger notification written in the same transaction as the reservation change that caused it.
+ * The idempotency key is derived from the reservation code, so the same notification is never queued twice.
+ */
+@Table(name="notification_outbox", indexes = {
+        @Index(name="idx_outbox_status", columnList="status, outbox_id")
+})
+@Entity
+@Setter
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_outbox_seq")
+    @SequenceGenerator(name = "notification_outbox_seq", sequenceName = "notification_outbox_seq", allocationSize = 50)
+    @Column(name="outbox_id")
+    private Long id;
+
+    @Column(name="idempotency_key", unique = true, nullable = false, length = 512)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name="notification_type", nullable = false)
+    private NotificationType type;
+
+    @Column(name="reservation_id", nullable = false)
+    private Long reservationId;
+
+    @Column(name="reservation_code", nullable = false)
+    private String reservationCode;
+
+    @Column(name="flight_id")
+    private Long flightId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name="status", nullable = false)
+    private OutboxStatus status;
+
+    @Column(name="attempts")
+    private int attempts;
+
+    @Column(name="created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name="claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name="processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name="last_error", length = 1000)
+    private String lastError;
+}
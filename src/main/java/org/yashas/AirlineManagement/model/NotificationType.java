@@ -0,0 +1,9 @@
+package org.yashas.AirlineManagement.model;
+
+/**
+ * Kind of passenger notification recorded in the outbox.
+ */
+public enum NotificationType {
+    RESERVATION_CONFIRMATION,
+    FLIGHT_CHANGE
+}
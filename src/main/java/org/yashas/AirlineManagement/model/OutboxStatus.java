@@ -0,0 +1,13 @@
+package org.yashas.AirlineManagement.model;
+
+/**
+ * Delivery state of an outbox entry.
+ * PENDING entries are picked up by the relay, IN_FLIGHT entries are claimed and handed to the mail pipeline,
+ * SENT and FAILED are terminal.
+ */
+public enum OutboxStatus {
+    PENDING,
+    IN_FLIGHT,
+    SENT,
+    FAILED
+}
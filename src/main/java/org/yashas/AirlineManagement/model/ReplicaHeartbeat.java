@@ -0,0 +1,34 @@
+package org.yashas.AirlineManagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Heartbeat row written to the primary database and read back from the read replica.
+ * How old the replica's copy is tells how far replication is behind; see {@code ReplicaLagMonitor}.
+ */
+@Table(name="replica_heartbeat")
+@Entity
+@Setter
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReplicaHeartbeat {
+
+    @Id
+    @Column(name="heartbeat_id")
+    private Integer id;
+
+    @Column(name="beat_millis", nullable = false)
+    private long beatMillis;
+}
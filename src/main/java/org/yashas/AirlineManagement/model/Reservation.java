@@ -3,12 +3,16 @@ package org.yashas.AirlineManagement.model;
 import java.time.LocalDateTime;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
@@ -18,7 +22,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
-@Table(name="reservation")
+@Table(name="reservation", indexes = {
+        @Index(name="idx_reservation_flight", columnList="flight_id, reservation_id")
+})
 @Entity
 @Setter
 @Getter
@@ -29,7 +35,9 @@ import lombok.ToString;
 public class Reservation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    // Pooled allocation: one sequence call per 50 ids, matching the JDBC batch size
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq")
+    @SequenceGenerator(name = "reservation_seq", sequenceName = "reservation_seq", allocationSize = 50)
     @Column(name="reservation_id")
     private Long id;
 
@@ -50,7 +58,12 @@ public class Reservation {
     @Column(name="created_at")
     private LocalDateTime createdAt;
 
-    @ManyToOne
+    @Version
+    @Column(name="version")
+    private Long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
     @JoinColumn(name = "flight_id", referencedColumnName = "flight_id", nullable = false)
     private Flight flight;
 }
\ No newline at end of file
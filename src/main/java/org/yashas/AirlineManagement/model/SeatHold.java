@@ -0,0 +1,59 @@
+package org.yashas.AirlineManagement.model;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Seat temporarily taken from a flight's inventory while the passenger completes payment.
+ * The hold either becomes a reservation or expires and returns the seat.
+ */
+@Table(name="seat_hold", indexes = {
+        @Index(name="idx_seat_hold_expires_at", columnList="expires_at")
+})
+@Entity
+@Setter
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SeatHold {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seat_hold_seq")
+    @SequenceGenerator(name = "seat_hold_seq", sequenceName = "seat_hold_seq", allocationSize = 50)
+    @Column(name="hold_id")
+    private Long id;
+
+    @Column(name="flight_id", nullable = false)
+    private Long flightId;
+
+    @NotBlank
+    @Column(name="passenger_name")
+    private String passengerName;
+
+    @Email
+    @Column(name="passenger_email")
+    private String passengerEmail;
+
+    @Column(name="created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name="expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
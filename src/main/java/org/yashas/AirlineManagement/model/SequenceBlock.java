@@ -0,0 +1,35 @@
+package org.yashas.AirlineManagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Named counter handed out in blocks.
+ * An instance reserves a range of values by advancing {@code next_value} under a row lock and then
+ * uses the range from memory, so instances never hand out the same value.
+ */
+@Table(name="sequence_block")
+@Entity
+@Setter
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SequenceBlock {
+
+    @Id
+    @Column(name="sequence_name", length = 64)
+    private String name;
+
+    @Column(name="next_value", nullable = false)
+    private long nextValue;
+}
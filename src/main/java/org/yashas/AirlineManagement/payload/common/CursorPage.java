@@ -0,0 +1,39 @@
+package org.yashas.AirlineManagement.payload.common;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for returning one page of a keyset (seek) paginated listing.
+ * Items are ordered by ID; {@code nextCursor} is the ID to pass as {@code after} to fetch the next page,
+ * or null when the last page has been reached.
+ * Associated with GET /flights/, GET /reservations/, GET /airplanes/ and GET /flights/{id}/reservations.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private Long nextCursor;
+    private int limit;
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code limit + 1}.
+     * The extra row only signals that another page exists and is not returned.
+     *
+     * @param rows rows ordered by ID, at most {@code limit + 1}
+     * @param limit page size requested by the client
+     * @param idOf extracts the ID used as the cursor
+     * @return page with the next cursor set if more rows are available
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, Long> idOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null, limit);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new CursorPage<>(items, idOf.apply(items.get(limit - 1)), limit);
+    }
+}
@@ -0,0 +1,28 @@
+package org.yashas.AirlineManagement.payload.event;
+
+import java.time.LocalDateTime;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one flight or reservation change sent over the event stream.
+ * The offset is also the SSE event ID; a client that reconnects with it as {@code Last-Event-ID}
+ * receives the events it missed.
+ * Associated with GET /events/stream.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StreamEventDTO {
+    private long offset;
+    private String type;
+    private Long flightId;
+    private Long reservationId;
+    private Long previousFlightId;
+    private FlightResponseDTO flight;
+    private LocalDateTime occurredAt;
+}
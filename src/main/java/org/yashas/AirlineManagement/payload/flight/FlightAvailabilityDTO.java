@@ -0,0 +1,19 @@
+package org.yashas.AirlineManagement.payload.flight;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for returning the seat availability of a flight, read from its seat counter.
+ * Associated with GET /flights/availability.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FlightAvailabilityDTO {
+    private Long flightId;
+    private int capacity;
+    private int seatsBooked;
+    private int seatsRemaining;
+}
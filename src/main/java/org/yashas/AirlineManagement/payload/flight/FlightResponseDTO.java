@@ -1,6 +1,7 @@
 package org.yashas.AirlineManagement.payload.flight;
 
 import java.time.LocalDateTime;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -10,6 +11,7 @@ import lombok.NoArgsConstructor;
  * Used for retrieving one or more flights.
  * The airplane ID is included as part of the flight response.
  * Associated with GET /flights/, GET /flights/{id}/, POST /flights/, PATCH /flights/{id}/ and GET /airplanes/{id}/flights.
+ * Search results (POST /flights/filter) also carry the number of seats left.
  */
 @Data
 @AllArgsConstructor
@@ -22,4 +24,12 @@ public class FlightResponseDTO {
     private LocalDateTime departureTime;
     private LocalDateTime arrivalTime;
     private Long airplaneId;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer seatsRemaining;
+
+    public FlightResponseDTO(Long id, String flightNumber, String departure, String destination,
+                             LocalDateTime departureTime, LocalDateTime arrivalTime, Long airplaneId) {
+        this(id, flightNumber, departure, destination, departureTime, arrivalTime, airplaneId, null);
+    }
 }
\ No newline at end of file
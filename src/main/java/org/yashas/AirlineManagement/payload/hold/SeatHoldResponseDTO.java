@@ -0,0 +1,22 @@
+package org.yashas.AirlineManagement.payload.hold;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for returning seat hold details in response to API requests.
+ * Associated with POST /holds/ and GET /holds/{id}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SeatHoldResponseDTO {
+    private Long id;
+    private Long flightId;
+    private String passengerName;
+    private String passengerEmail;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,24 @@
+package org.yashas.AirlineManagement.payload.itinerary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for returning a direct or connecting itinerary.
+ * Legs are listed in travel order; stops is the number of connections (legs - 1).
+ * Associated with POST /flights/itineraries endpoint.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItineraryResponseDTO {
+    private List<FlightResponseDTO> legs;
+    private int stops;
+    private LocalDateTime departureTime;
+    private LocalDateTime arrivalTime;
+    private long durationMinutes;
+}
@@ -0,0 +1,47 @@
+package org.yashas.AirlineManagement.payload.itinerary;
+
+import java.time.LocalDate;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for searching direct and connecting itineraries between two locations.
+ * Associated with POST /flights/itineraries endpoint.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItinerarySearchRequestDTO {
+
+    @NotBlank(message = "Departure location is required")
+    @Schema(description = "Departure location (e.g. airport name)", example = "Heathrow Airport", required = true)
+    private String departureLocation;
+
+    @NotBlank(message = "Arrival location is required")
+    @Schema(description = "Final destination (e.g. airport name)", example = "Istanbul Airport", required = true)
+    private String arrivalLocation;
+
+    @NotNull(message = "Departure date is required")
+    @Schema(description = "Date of the first leg's departure", example = "2025-05-10", required = true)
+    private LocalDate departureDate;
+
+    @Min(value = 0, message = "Max stops cannot be negative")
+    @Max(value = 2, message = "At most two stops are supported")
+    @Schema(description = "Maximum number of connections", example = "1", defaultValue = "2")
+    private Integer maxStops;
+
+    @Min(value = 0, message = "Minimum connection time cannot be negative")
+    @Schema(description = "Minimum time between arrival and the next departure, in minutes", example = "60", defaultValue = "45")
+    private Integer minConnectionMinutes;
+
+    @Min(value = 1, message = "At least one itinerary must be requested")
+    @Max(value = 50, message = "At most 50 itineraries can be requested")
+    @Schema(description = "Number of itineraries to return, earliest arrival first", example = "5", defaultValue = "5")
+    private Integer limit;
+}
@@ -0,0 +1,20 @@
+package org.yashas.AirlineManagement.payload.reservation;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for returning the outcome of a bulk reservation import.
+ * Individual reservations are not echoed back; the counts are keyed by flight ID.
+ * Associated with POST /reservations/bulk.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkReservationResponseDTO {
+    private int importedCount;
+    private Map<Long, Integer> reservationsPerFlight;
+    private long durationMillis;
+}
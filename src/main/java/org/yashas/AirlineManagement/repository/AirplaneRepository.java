@@ -1,11 +1,32 @@
 package org.yashas.AirlineManagement.repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.yashas.AirlineManagement.model.Airplane;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AirplaneRepository extends JpaRepository<Airplane, Long> {
 
     boolean existsByTailNumber(String tailNumber);
+
+    /**
+     * Seeks past the given ID instead of using an offset, so every page costs the same
+     * primary key range scan no matter how deep the client has paged.
+     */
+    List<Airplane> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Streams all airplanes over a single cursor. Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Airplane> streamAllByOrderByIdAsc();
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package org.yashas.AirlineManagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import org.yashas.AirlineManagement.model.ArchivedFlight;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FlightArchiveRepository extends JpaRepository<ArchivedFlight, Long> {
+
+    /**
+     * Copies the flights, with their seat counters, into the archive in one statement.
+     */
+    @Modifying
+    @Query(value = "insert into flight_archive (flight_id, flight_number, departure, destination, departure_time, "
+            + "arrival_time, airplane_id, capacity, seats_booked, archived_at) "
+            + "select f.flight_id, f.flight_number, f.departure, f.destination, f.departure_time, "
+            + "f.arrival_time, f.airplane_id, i.capacity, i.seats_booked, :archivedAt "
+            + "from flight f left join flight_inventory i on i.flight_id = f.flight_id "
+            + "where f.flight_id in (:flightIds)",
+            nativeQuery = true)
+    int archive(Collection<Long> flightIds, LocalDateTime archivedAt);
+}
@@ -0,0 +1,86 @@
+package org.yashas.AirlineManagement.repository;
+
+import java.util.Collection;
+import java.util.List;
+import org.yashas.AirlineManagement.model.FlightInventory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface FlightInventoryRepository extends JpaRepository<FlightInventory, Long> {
+
+    /**
+     * Takes seats only if more than that are left, so the flight is not sold out afterwards.
+     * Returns 0 if the seats would be the last ones, the flight is full or has no inventory row.
+     */
+    @Modifying
+    @Query("update FlightInventory i set i.seatsBooked = i.seatsBooked + :seats "
+            + "where i.flightId = :flightId and i.seatsBooked + :seats < i.capacity")
+    int reserveSeatsLeavingSome(Long flightId, int seats);
+
+    /**
+     * Takes seats only if they are exactly the last ones. Returns 1 if this sold the flight out.
+     */
+    @Modifying
+    @Query("update FlightInventory i set i.seatsBooked = i.seatsBooked + :seats "
+            + "where i.flightId = :flightId and i.seatsBooked + :seats = i.capacity")
+    int reserveLastSeats(Long flightId, int seats);
+
+    /**
+     * Plain insert, so a counter created concurrently fails with a duplicate key instead of being merged over.
+     */
+    @Modifying
+    @Query(value = "insert into flight_inventory (flight_id, capacity, seats_booked) "
+            + "values (:flightId, :capacity, :seatsBooked)", nativeQuery = true)
+    int insert(Long flightId, int capacity, int seatsBooked);
+
+    @Modifying
+    @Query("update FlightInventory i set i.seatsBooked = i.seatsBooked - :seats "
+            + "where i.flightId = :flightId and i.seatsBooked >= :seats")
+    int releaseSeats(Long flightId, int seats);
+
+    @Modifying
+    @Query("update FlightInventory i set i.capacity = :capacity where i.flightId = :flightId")
+    int updateCapacity(Long flightId, int capacity);
+
+    @Modifying
+    @Query("update FlightInventory i set i.capacity = :capacity "
+            + "where i.flightId in (select f.id from Flight f where f.airplane.id = :airplaneId)")
+    int updateCapacityForAirplane(Long airplaneId, int capacity);
+
+    /**
+     * Creates the missing seat counters of flights created before inventories existed, counting their active reservations.
+     */
+    @Modifying
+    @Query(value = "insert into flight_inventory (flight_id, capacity, seats_booked) "
+            + "select f.flight_id, a.capacity, "
+            + "(select count(*) from reservation r where r.flight_id = f.flight_id and r.status = true) "
+            + "from flight f join airplane a on a.airplane_id = f.airplane_id "
+            + "where not exists (select 1 from flight_inventory i where i.flight_id = f.flight_id)",
+            nativeQuery = true)
+    int insertMissing();
+
+    @Modifying
+    @Query("delete from FlightInventory i where i.flightId = :flightId")
+    int deleteByFlightId(Long flightId);
+
+    /**
+     * Locks the seat counters of the flights, so no reservation of them changes until the transaction ends.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from FlightInventory i where i.flightId in :flightIds")
+    List<FlightInventory> lockByFlightIds(Collection<Long> flightIds);
+
+    @Modifying
+    @Query("delete from FlightInventory i where i.flightId in :flightIds")
+    int deleteByFlightIds(Collection<Long> flightIds);
+
+    @Modifying
+    @Query("delete from FlightInventory i "
+            + "where i.flightId in (select f.id from Flight f where f.airplane.id = :airplaneId)")
+    int deleteForAirplane(Long airplaneId);
+}
@@ -1,15 +1,68 @@
 package org.yashas.AirlineManagement.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.yashas.AirlineManagement.model.Flight;
+import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface FlightRepository extends JpaRepository<Flight, Long>, JpaSpecificationExecutor<Flight> {
     
-    List<Flight> findByAirplaneId(Long airplaneId);
-
     boolean existsByFlightNumber(String flightNumber);
+
+    /**
+     * Flight filter queries go through the Hibernate query cache; cached results are
+     * invalidated by Hibernate whenever the flight table is written.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Flight> findAll(Specification<Flight> spec);
+
+    @Query("select f.id from Flight f where f.airplane.id = :airplaneId")
+    List<Long> findIdsByAirplaneId(Long airplaneId);
+
+    @Query("select f.id from Flight f where f.arrivalTime < :cutoff order by f.id")
+    List<Long> findIdsArrivedBefore(LocalDateTime cutoff, Limit limit);
+
+    @Modifying
+    @Query("delete from Flight f where f.id in :ids")
+    int deleteByIds(Collection<Long> ids);
+
+    /**
+     * Selects the columns of {@link FlightResponseDTO} in one query. The airplane ID is read from
+     * the foreign key column, so neither the airplane nor anything else is loaded per row.
+     */
+    String SELECT_RESPONSE = "select new org.yashas.AirlineManagement.payload.flight.FlightResponseDTO("
+            + "f.id, f.flightNumber, f.departure, f.destination, f.departureTime, f.arrivalTime, f.airplane.id) "
+            + "from Flight f ";
+
+    /**
+     * Seeks past the given ID instead of using an offset, so every page costs the same
+     * primary key range scan no matter how deep the client has paged.
+     */
+    @Query(SELECT_RESPONSE + "where f.id > :after order by f.id")
+    List<FlightResponseDTO> findResponsesAfter(Long after, Limit limit);
+
+    @Query(SELECT_RESPONSE + "where f.airplane.id = :airplaneId order by f.id")
+    List<FlightResponseDTO> findResponsesByAirplaneId(Long airplaneId);
+
+    /**
+     * Streams all flights over a single cursor. Must be consumed inside a transaction and closed.
+     * Rows become DTOs directly, so nothing accumulates in the persistence context.
+     */
+    @Query(SELECT_RESPONSE + "order by f.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<FlightResponseDTO> streamAllResponses();
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package org.yashas.AirlineManagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.yashas.AirlineManagement.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Reads in a read-write transaction, so that with replica routing the record comes from the primary:
+     * the replica may not have the record of a request that has only just completed.
+     */
+    @Override
+    @Transactional
+    Optional<IdempotencyRecord> findById(String key);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(LocalDateTime now);
+
+    /**
+     * Deletes the record of the key if it has expired, so the key can be used again.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.key = :key and r.expiresAt < :now")
+    int deleteIfExpired(String key, LocalDateTime now);
+}
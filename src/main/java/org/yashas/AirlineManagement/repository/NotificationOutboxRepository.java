@@ -0,0 +1,53 @@
+package org.yashas.AirlineManagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.yashas.AirlineManagement.model.NotificationOutbox;
+import org.yashas.AirlineManagement.model.OutboxStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    Optional<NotificationOutbox> findByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * Finds entries ready for dispatch: pending entries whose retry delay has passed,
+     * and claimed entries whose lease expired (e.g. the claiming instance crashed).
+     */
+    @Query("select o from NotificationOutbox o "
+            + "where (o.status = :pending and (o.claimedAt is null or o.claimedAt < :retryBefore)) "
+            + "or (o.status = :inFlight and o.claimedAt < :staleBefore) "
+            + "order by o.id")
+    List<NotificationOutbox> findDispatchable(OutboxStatus pending, OutboxStatus inFlight,
+                                              LocalDateTime retryBefore, LocalDateTime staleBefore, Limit limit);
+
+    /**
+     * Atomically claims an entry for dispatch. Returns 0 if another relay claimed it first.
+     */
+    @Transactional
+    @Modifying
+    @Query("update NotificationOutbox o set o.status = :inFlight, o.claimedAt = :now, o.attempts = o.attempts + 1 "
+            + "where o.id = :id "
+            + "and ((o.status = :pending and (o.claimedAt is null or o.claimedAt < :retryBefore)) "
+            + "or (o.status = :inFlight and o.claimedAt < :staleBefore))")
+    int claim(Long id, OutboxStatus pending, OutboxStatus inFlight,
+              LocalDateTime now, LocalDateTime retryBefore, LocalDateTime staleBefore);
+
+    @Transactional
+    @Modifying
+    @Query("update NotificationOutbox o set o.status = :status, o.processedAt = :now, o.lastError = :lastError "
+            + "where o.id = :id and o.status = :inFlight")
+    int complete(Long id, OutboxStatus inFlight, OutboxStatus status, LocalDateTime now, String lastError);
+
+    @Transactional
+    @Modifying
+    @Query("delete from NotificationOutbox o where o.status = :status and o.processedAt < :before")
+    int deleteProcessedBefore(OutboxStatus status, LocalDateTime before);
+}
@@ -0,0 +1,25 @@
+package org.yashas.AirlineManagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import org.yashas.AirlineManagement.model.ArchivedReservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReservationArchiveRepository extends JpaRepository<ArchivedReservation, Long> {
+
+    /**
+     * Copies all reservations of the flights into the archive in one statement.
+     */
+    @Modifying
+    @Query(value = "insert into reservation_archive (reservation_id, passenger_name, passenger_email, "
+            + "reservation_code, status, created_at, flight_id, archived_at) "
+            + "select r.reservation_id, r.passenger_name, r.passenger_email, "
+            + "r.reservation_code, r.status, r.created_at, r.flight_id, :archivedAt "
+            + "from reservation r where r.flight_id in (:flightIds)",
+            nativeQuery = true)
+    int archiveForFlights(Collection<Long> flightIds, LocalDateTime archivedAt);
+}
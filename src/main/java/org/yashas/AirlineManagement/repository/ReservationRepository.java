@@ -1,8 +1,17 @@
 package org.yashas.AirlineManagement.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.yashas.AirlineManagement.model.Reservation;
+import org.yashas.AirlineManagement.payload.reservation.ReservationResponseDTO;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,4 +22,46 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     boolean existsByReservationCode(String reservationCode);
     
     int countByFlightIdAndStatusTrue(Long flightId);
+
+    @Query("select r.reservationCode from Reservation r where r.reservationCode in :codes")
+    List<String> findExistingReservationCodes(Collection<String> codes);
+
+    @Modifying
+    @Query("delete from Reservation r where r.flight.id in :flightIds")
+    int deleteByFlightIds(Collection<Long> flightIds);
+
+    /**
+     * Selects the columns of {@link ReservationResponseDTO} in one query. The flight ID is read from
+     * the foreign key column, so the flight is not loaded per row.
+     */
+    String SELECT_RESPONSE = "select new org.yashas.AirlineManagement.payload.reservation.ReservationResponseDTO("
+            + "r.id, r.passengerName, r.passengerEmail, r.reservationCode, r.status, r.createdAt, r.flight.id) "
+            + "from Reservation r ";
+
+    /**
+     * Seeks past the given ID instead of using an offset, so every page costs the same
+     * primary key range scan no matter how deep the client has paged.
+     */
+    @Query(SELECT_RESPONSE + "where r.id > :after order by r.id")
+    List<ReservationResponseDTO> findResponsesAfter(Long after, Limit limit);
+
+    /**
+     * Keyset page of a flight's reservations, served by the (flight_id, reservation_id) index.
+     */
+    @Query(SELECT_RESPONSE + "where r.flight.id = :flightId and r.id > :after order by r.id")
+    List<ReservationResponseDTO> findResponsesByFlightIdAfter(Long flightId, Long after, Limit limit);
+
+    /**
+     * Streams all reservations over a single cursor. Must be consumed inside a transaction and closed.
+     */
+    @Query(SELECT_RESPONSE + "order by r.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<ReservationResponseDTO> streamAllResponses();
+
+    /**
+     * Streams a flight's reservations over a single cursor. Must be consumed inside a transaction and closed.
+     */
+    @Query(SELECT_RESPONSE + "where r.flight.id = :flightId order by r.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<ReservationResponseDTO> streamResponsesByFlightId(Long flightId);
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package org.yashas.AirlineManagement.repository;
+
+import java.util.Collection;
+import org.yashas.AirlineManagement.model.SeatHold;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SeatHoldRepository extends JpaRepository<SeatHold, Long> {
+
+    /**
+     * Deletes the hold. Returns 0 if it was already confirmed, released or expired,
+     * which makes confirmation and expiry mutually exclusive.
+     */
+    @Modifying
+    @Query("delete from SeatHold h where h.id = :id")
+    int deleteHold(Long id);
+
+    @Modifying
+    @Query("delete from SeatHold h where h.flightId in :flightIds")
+    int deleteByFlightIds(Collection<Long> flightIds);
+}
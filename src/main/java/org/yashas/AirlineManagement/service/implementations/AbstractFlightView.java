@@ -0,0 +1,172 @@
+package org.yashas.AirlineManagement.service.implementations;
+
+import org.yashas.AirlineManagement.event.FlightChangedEvent;
+import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
+import org.yashas.AirlineManagement.repository.FlightRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Base for in-memory views over the flight table, such as the route index and the itinerary graph.
+ * <p>
+ * Handles loading and keeping the view in sync: every flight is read once the application is ready,
+ * and {@link FlightChangedEvent}s are applied after commit. Changes committed while the table is being
+ * read win over the rows read, and flights deleted meanwhile are remembered so they are not re-added.
+ * Subclasses only decide which flights they hold and how they index them.
+ */
+public abstract class AbstractFlightView {
+
+    private final FlightRepository flightRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ConcurrentMap<Long, FlightResponseDTO> flightsById = new ConcurrentHashMap<>();
+    private final Set<Long> deletedWhileLoading = ConcurrentHashMap.newKeySet();
+    private final Object writeLock = new Object();
+    private final CountDownLatch loaded = new CountDownLatch(1);
+    private volatile boolean loading;
+
+    protected AbstractFlightView(FlightRepository flightRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.flightRepository = flightRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Loads every flight into the view.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        loading = true;
+        long start = System.nanoTime();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<FlightResponseDTO> flights = flightRepository.streamAllResponses()) {
+                flights.forEach(this::addIfAbsent);
+            }
+        });
+        synchronized (writeLock) {
+            deletedWhileLoading.clear();
+            loading = false;
+        }
+        loaded.countDown();
+        onLoaded(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFlightChanged(FlightChangedEvent event) {
+        synchronized (writeLock) {
+            remove(event.getFlightId());
+            if (event.isRemoval()) {
+                if (loading) {
+                    deletedWhileLoading.add(event.getFlightId());
+                }
+            } else {
+                put(event.getFlight());
+            }
+        }
+    }
+
+    /**
+     * Waits for the initial load, for requests arriving right after startup.
+     *
+     * @param timeout how long to wait
+     * @return true if the view is loaded
+     */
+    public boolean awaitLoaded(Duration timeout) throws InterruptedException {
+        return loaded.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isReady() {
+        return loaded.getCount() == 0;
+    }
+
+    public int size() {
+        return flightsById.size();
+    }
+
+    /**
+     * Drops the flights matching the predicate from the view.
+     *
+     * @return number of flights removed
+     */
+    protected int removeIf(Predicate<FlightResponseDTO> predicate) {
+        int removed = 0;
+        synchronized (writeLock) {
+            for (FlightResponseDTO flight : flightsById.values()) {
+                if (predicate.test(flight)) {
+                    remove(flight.getId());
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Whether the view holds the flight; flights it does not accept are left out, or removed when updated.
+     */
+    protected boolean accepts(FlightResponseDTO flight) {
+        return true;
+    }
+
+    /**
+     * Adds a flight to the subclass's indexes. Called under the write lock with a private copy.
+     */
+    protected abstract void index(FlightResponseDTO flight);
+
+    /**
+     * Removes a flight previously passed to {@link #index} from the subclass's indexes. Called under the write lock.
+     */
+    protected abstract void unindex(FlightResponseDTO flight);
+
+    /**
+     * Called once the initial load is complete.
+     *
+     * @param elapsedMillis duration of the load
+     */
+    protected abstract void onLoaded(long elapsedMillis);
+
+    /**
+     * Copies a flight; DTOs held by a view are never shared with callers, which may modify them.
+     */
+    protected static FlightResponseDTO copyOf(FlightResponseDTO flight) {
+        return new FlightResponseDTO(flight.getId(), flight.getFlightNumber(), flight.getDeparture(),
+                flight.getDestination(), flight.getDepartureTime(), flight.getArrivalTime(), flight.getAirplaneId());
+    }
+
+    private void addIfAbsent(FlightResponseDTO flight) {
+        synchronized (writeLock) {
+            if (!flightsById.containsKey(flight.getId()) && !deletedWhileLoading.contains(flight.getId())) {
+                put(flight);
+            }
+        }
+    }
+
+    private void put(FlightResponseDTO flight) {
+        if (!accepts(flight)) {
+            return;
+        }
+        FlightResponseDTO copy = copyOf(flight);
+        flightsById.put(copy.getId(), copy);
+        index(copy);
+    }
+
+    private void remove(Long flightId) {
+        FlightResponseDTO previous = flightsById.remove(flightId);
+        if (previous != null) {
+            unindex(previous);
+        }
+    }
+}
@@ -1,60 +1,101 @@
 package org.yashas.AirlineManagement.service.implementations;
 
+import org.yashas.AirlineManagement.event.AirplaneChangedEvent;
+import org.yashas.AirlineManagement.event.FlightChangedEvent;
 import org.yashas.AirlineManagement.exception.entityrelated.AirplaneNotFoundException;
 import org.yashas.AirlineManagement.exception.state.DuplicateTailNumberException;
 import org.yashas.AirlineManagement.exception.state.NoChangesMadeException;
 import org.yashas.AirlineManagement.mapper.AirplaneMapper;
 import org.yashas.AirlineManagement.model.Airplane;
+import org.yashas.AirlineManagement.payload.common.CursorPage;
 import org.yashas.AirlineManagement.payload.airplane.AirplaneRequestDTO;
 import org.yashas.AirlineManagement.payload.airplane.AirplaneResponseDTO;
 import org.yashas.AirlineManagement.payload.airplane.PartialAirplaneRequestDTO;
 import org.yashas.AirlineManagement.repository.AirplaneRepository;
+import org.yashas.AirlineManagement.repository.FlightRepository;
 import org.yashas.AirlineManagement.service.interfaces.AirplaneService;
+import org.yashas.AirlineManagement.util.concurrent.SingleFlight;
+import org.yashas.AirlineManagement.util.constant.CacheNames;
+import org.yashas.AirlineManagement.util.constant.MetricNames;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import java.lang.reflect.Field;
 import java.util.List;
-import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = MetricNames.SERVICE, histogram = true)
 @RequiredArgsConstructor
 @Slf4j
 public class AirplaneServiceImpl implements AirplaneService {
 
     private final AirplaneRepository airplaneRepository;
     private final AirplaneMapper airplaneMapper;
+    private final SeatInventoryService seatInventoryService;
+    private final EntityManager entityManager;
+    private final FlightRepository flightRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SingleFlight<Long, AirplaneResponseDTO> airplaneLookups;
 
     /**
-     * Retrieves a list of all airplanes as DTOs.
+     * Retrieves one page of airplanes ordered by ID, starting after the given cursor.
      * 
-     * @return list of airplane response DTOs, or an empty list if none are found
+     * @param after ID of the last airplane of the previous page, or null for the first page
+     * @param limit maximum number of airplanes to return
+     * @return page of airplane response DTOs with the cursor of the next page, if any
      */
     @Override
     @Transactional(readOnly = true)
-    public List<AirplaneResponseDTO> getAllAirplanes() {
-        return airplaneRepository.findAll()
+    public CursorPage<AirplaneResponseDTO> getAllAirplanes(Long after, int limit) {
+        List<AirplaneResponseDTO> airplanes = airplaneRepository
+                .findByIdGreaterThanOrderByIdAsc(after != null ? after : 0L, Limit.of(limit + 1))
                 .stream()
                 .map(airplaneMapper::toResponse)
                 .collect(Collectors.toList());
+        return CursorPage.of(airplanes, limit, AirplaneResponseDTO::getId);
+    }
+
+    /**
+     * Passes every airplane, ordered by ID, to the consumer one at a time.
+     * Airplanes are read over a single database cursor and detached once mapped.
+     * 
+     * @param consumer receives each airplane response DTO
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllAirplanes(Consumer<AirplaneResponseDTO> consumer) {
+        try (Stream<Airplane> airplanes = airplaneRepository.streamAllByOrderByIdAsc()) {
+            airplanes.forEach(airplane -> {
+                consumer.accept(airplaneMapper.toResponse(airplane));
+                entityManager.detach(airplane);
+            });
+        }
     }
 
     /**
      * Retrieves a specific airplane by its unique ID.
+     * Results are cached and evicted once a change to the airplane commits.
+     * Concurrent cache misses for the same airplane share one query.
      * 
      * @param id ID of the airplane to retrieve
      * @return airplane response DTO corresponding to the given ID
      * @throws AirplaneNotFoundException if no airplane with the given ID is found
      */
     @Override
-    @Transactional(readOnly = true)
+    @Cacheable(CacheNames.AIRPLANES)
     public AirplaneResponseDTO getAirplaneById(Long id) {
-        return airplaneRepository.findById(id)
+        return airplaneLookups.load(id, () -> airplaneRepository.findById(id)
                 .map(airplaneMapper::toResponse)
-                .orElseThrow(() -> new AirplaneNotFoundException(id));
+                .orElseThrow(() -> new AirplaneNotFoundException(id)));
     }
 
     /**
@@ -103,14 +144,19 @@ public class AirplaneServiceImpl implements AirplaneService {
         Airplane airplane = airplaneRepository.findById(id)
                 .orElseThrow(() -> new AirplaneNotFoundException(id));
     
+        int previousCapacity = airplane.getCapacity();
         boolean isUpdated = updateEntityFields(airplane, airplaneDTO);
         if (!isUpdated) {
             throw new NoChangesMadeException("airplane");
         }
+        if (airplane.getCapacity() != previousCapacity) {
+            seatInventoryService.updateCapacityForAirplane(id, airplane.getCapacity());
+        }
 
         Airplane updatedAirplane = airplaneRepository.save(airplane);
     
         log.info("Airplane with ID {} successfully updated.", id);
+        eventPublisher.publishEvent(AirplaneChangedEvent.updated(id));
     
         return airplaneMapper.toResponse(updatedAirplane);
     }
@@ -123,28 +169,7 @@ public class AirplaneServiceImpl implements AirplaneService {
      * @return true if updated, false otherwise
      */
     private boolean updateEntityFields(Airplane airplane, PartialAirplaneRequestDTO airplaneDTO) {
-        boolean isUpdated = false;
-    
-        for (Field field : PartialAirplaneRequestDTO.class.getDeclaredFields()) {
-            try {
-                field.setAccessible(true); 
-                Object dtoValue = field.get(airplaneDTO);
-                if (dtoValue != null) {
-                    Field airplaneField = Airplane.class.getDeclaredField(field.getName());
-                    airplaneField.setAccessible(true); 
-                    Object airplaneValue = airplaneField.get(airplane);
-    
-                    if (!Objects.equals(airplaneValue, dtoValue)) {
-                        airplaneField.set(airplane, dtoValue);
-                        isUpdated = true;
-                    }
-                }
-            } catch (NoSuchFieldException | IllegalAccessException e) {
-                log.error("Error updating field: {} Exception: {}", field.getName(), e.getMessage());
-            }
-        }
-    
-        return isUpdated;
+        return !AirplaneMapper.PATCH.apply(airplaneDTO, airplane).isEmpty();
     }
     
 
@@ -162,6 +187,12 @@ public class AirplaneServiceImpl implements AirplaneService {
         
         log.info("Airplane deleted: {}", airplaneId);
 
+        // The airplane's flights are removed by cascade; announce them before they are gone
+        List<Long> flightIds = flightRepository.findIdsByAirplaneId(airplaneId);
+
+        seatInventoryService.removeForAirplane(airplaneId);
         airplaneRepository.deleteById(airplaneId);
+        flightIds.forEach(flightId -> eventPublisher.publishEvent(FlightChangedEvent.deleted(flightId)));
+        eventPublisher.publishEvent(AirplaneChangedEvent.deleted(airplaneId));
     }   
 }
\ No newline at end of file
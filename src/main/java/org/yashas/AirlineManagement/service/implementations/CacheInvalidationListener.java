@@ -0,0 +1,51 @@
+package org.yashas.AirlineManagement.service.implementations;
+
+import org.yashas.AirlineManagement.event.AirplaneChangedEvent;
+import org.yashas.AirlineManagement.event.FlightChangedEvent;
+import org.yashas.AirlineManagement.payload.airplane.AirplaneResponseDTO;
+import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
+import org.yashas.AirlineManagement.util.concurrent.SingleFlight;
+import org.yashas.AirlineManagement.util.constant.CacheNames;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evicts cached flight and airplane DTOs once the write that changed them has committed.
+ * Evicting after commit (rather than when the service method returns) keeps a concurrent
+ * reader from re-caching the old row before the new one is visible. Loads of the key already
+ * running are forgotten as well, so later readers do not join a load that may have read the old row.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationListener {
+
+    private final CacheManager cacheManager;
+    private final SingleFlight<Long, FlightResponseDTO> flightLookups;
+    private final SingleFlight<Long, AirplaneResponseDTO> airplaneLookups;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFlightChanged(FlightChangedEvent event) {
+        flightLookups.forget(event.getFlightId());
+        evict(CacheNames.FLIGHTS, event.getFlightId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAirplaneChanged(AirplaneChangedEvent event) {
+        airplaneLookups.forget(event.getAirplaneId());
+        evict(CacheNames.AIRPLANES, event.getAirplaneId());
+    }
+
+    private void evict(String cacheName, Long id) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(id);
+            log.debug("Evicted {} from cache '{}'", id, cacheName);
+        }
+    }
+}
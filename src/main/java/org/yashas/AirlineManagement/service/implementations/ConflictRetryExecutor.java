@@ -0,0 +1,97 @@
+package org.yashas.AirlineManagement.service.implementations;
+
+import org.yashas.AirlineManagement.exception.state.ConcurrentUpdateConflictException;
+import org.yashas.AirlineManagement.util.constant.MetricNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import lombok.extern.slf4j.Slf4j;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs read-modify-write updates of versioned entities in a transaction of their own and,
+ * when the commit loses an optimistic-lock race, runs the whole update again on a fresh read.
+ * Concurrent edits of the same row therefore serialize without holding database locks
+ * while the request is being processed, and no edit is silently lost.
+ */
+@Service
+@Slf4j
+public class ConflictRetryExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    public ConflictRetryExecutor(PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${concurrency.update.max-attempts:3}") int maxAttempts,
+                                 @Value("${concurrency.update.backoff-ms:20}") long backoffMs) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMs = Math.max(0, backoffMs);
+    }
+
+    /**
+     * Runs the update, retrying it on optimistic-lock conflicts.
+     * The update must re-read everything it modifies, as each attempt starts with an empty persistence context.
+     * If a transaction is already active the update joins it and is not retried: only the owner of the
+     * transaction can repeat the work done before the conflict.
+     *
+     * @param entityName entity name for the error message and the conflict counters
+     * @param id ID of the updated entity
+     * @param update the read-modify-write to run
+     * @return the result of the successful attempt
+     * @throws ConcurrentUpdateConflictException if every attempt conflicted with a concurrent update
+     */
+    public <T> T execute(String entityName, Long id, Supplier<T> update) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return update.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> update.get());
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                if (attempt >= maxAttempts) {
+                    conflicts(entityName, "exhausted").increment();
+                    log.warn("Update of {} with ID {} conflicted {} times; giving up.", entityName, id, attempt);
+                    throw new ConcurrentUpdateConflictException(entityName, id);
+                }
+                conflicts(entityName, "retried").increment();
+                log.debug("Update of {} with ID {} conflicted on attempt {}; retrying.", entityName, id, attempt);
+                backoff(attempt, entityName, id);
+            }
+        }
+    }
+
+    /**
+     * Sleeps for a random time of up to {@code backoff-ms * attempt}, so that the writers of a conflict do not collide again.
+     */
+    private void backoff(int attempt, String entityName, Long id) {
+        if (backoffMs == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMs * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentUpdateConflictException(entityName, id);
+        }
+    }
+
+    private Counter conflicts(String entityName, String outcome) {
+        return Counter.builder(MetricNames.OPTIMISTIC_CONFLICTS)
+                .description("Optimistic-lock conflicts on updates")
+                .tag("entity", entityName)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,326 @@
+package org.yashas.AirlineManagement.service.implementations;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.yashas.AirlineManagement.payload.email.EmailDetails;
+import org.yashas.AirlineManagement.util.concurrent.CarrierThreads;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.Supplier;
+
+/**
+ * Outbound mail pipeline.
+ * Emails are queued in a bounded in-memory queue and delivered by a fixed pool of workers,
+ * so request threads never wait on template rendering or SMTP round trips.
+ * Each worker drains up to {@code mail.dispatch.batch-size} messages and hands them to
+ * {@link JavaMailSender#send(MimeMessage...)}, which sends the whole batch over a single
+ * SMTP {@code Transport} connection.
+ * <p>
+ * With {@code spring.threads.virtual.enabled=true} the workers are virtual threads. Jakarta Mail's SMTP
+ * transport holds monitors during network I/O, which pins a virtual thread to its carrier while it sends,
+ * so in that mode fewer workers than carrier threads are started.
+ */
+@Service
+@Slf4j
+public class EmailDispatchService {
+
+    private static final long POLL_TIMEOUT_MS = 500;
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private final JavaMailSender javaMailSender;
+    private final String sender;
+    private final BlockingQueue<EmailJob> queue;
+    private final int queueCapacity;
+    private final int workerCount;
+    private final boolean virtualThreads;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long offerTimeoutMs;
+
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong totalLatencyMs = new AtomicLong();
+    private final LongAccumulator maxLatencyMs = new LongAccumulator(Math::max, 0);
+
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    public EmailDispatchService(JavaMailSender javaMailSender,
+                                @Value("${spring.mail.username}") String sender,
+                                @Value("${mail.dispatch.queue-capacity:1000}") int queueCapacity,
+                                @Value("${mail.dispatch.workers:2}") int workerCount,
+                                @Value("${mail.dispatch.batch-size:20}") int batchSize,
+                                @Value("${mail.dispatch.max-attempts:3}") int maxAttempts,
+                                @Value("${mail.dispatch.initial-backoff-ms:500}") long initialBackoffMs,
+                                @Value("${mail.dispatch.offer-timeout-ms:50}") long offerTimeoutMs,
+                                @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.javaMailSender = javaMailSender;
+        this.sender = sender;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.queueCapacity = queueCapacity;
+        this.workerCount = virtualThreads ? Math.min(workerCount, CarrierThreads.maxPinnable()) : workerCount;
+        this.virtualThreads = virtualThreads;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = initialBackoffMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+    }
+
+    @PostConstruct
+    void start() {
+        ThreadFactory threadFactory;
+        if (virtualThreads) {
+            threadFactory = Thread.ofVirtual().name("mail-dispatch-", 1).factory();
+        } else {
+            CustomizableThreadFactory platformThreads = new CustomizableThreadFactory("mail-dispatch-");
+            platformThreads.setDaemon(true);
+            threadFactory = platformThreads;
+        }
+        workers = Executors.newFixedThreadPool(workerCount, threadFactory);
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::runWorker);
+        }
+        log.info("Email dispatcher started with {} {} workers (queue capacity: {}, batch size: {})",
+                workerCount, virtualThreads ? "virtual" : "platform", queueCapacity, batchSize);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+        EmailJob job;
+        while ((job = queue.poll()) != null) {
+            fail(job, new RejectedExecutionException("Email dispatcher was shut down"));
+        }
+        log.info("Email dispatcher stopped. Sent: {}, failed: {}, rejected: {}",
+                sentCount.get(), failedCount.get(), rejectedCount.get());
+    }
+
+    /**
+     * Queues an email for delivery.
+     * The renderer is invoked on a dispatch worker, so template rendering and any lookups it
+     * performs stay off the caller's thread. If the queue stays full for longer than
+     * {@code mail.dispatch.offer-timeout-ms}, the email is rejected instead of blocking the caller.
+     *
+     * @param renderer produces the email details (recipient, message body, subject)
+     * @return future completed once the email is delivered, or exceptionally if it is rejected or all attempts fail
+     */
+    public CompletableFuture<Void> submit(Supplier<EmailDetails> renderer) {
+        EmailJob job = new EmailJob(renderer);
+        try {
+            if (running && queue.offer(job, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                submittedCount.incrementAndGet();
+            } else {
+                rejectedCount.incrementAndGet();
+                log.warn("Email dispatch queue is full ({} pending); email rejected.", queue.size());
+                job.completion.completeExceptionally(new RejectedExecutionException("Email dispatch queue is full"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.completion.completeExceptionally(e);
+        }
+        return job.completion;
+    }
+
+    private void runWorker() {
+        List<EmailJob> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                EmailJob first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(job -> fail(job, e));
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in email dispatch worker", e);
+                batch.forEach(job -> fail(job, e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Renders and sends a batch, retrying failed messages with exponential backoff.
+     *
+     * @param batch jobs drained from the queue
+     */
+    private void deliver(List<EmailJob> batch) throws InterruptedException {
+        List<EmailJob> pending = new ArrayList<>(batch.size());
+        for (EmailJob job : batch) {
+            try {
+                job.message = createMimeMessage(job.renderer.get());
+                pending.add(job);
+            } catch (Exception e) {
+                log.error("Failed to prepare email: {}", e.getMessage(), e);
+                fail(job, e);
+            }
+        }
+
+        long backoffMs = initialBackoffMs;
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            Map<Object, Exception> failures = send(pending);
+            List<EmailJob> retry = new ArrayList<>();
+            for (EmailJob job : pending) {
+                Exception failure = failures.get(job.message);
+                if (failure == null) {
+                    succeed(job);
+                } else if (attempt >= maxAttempts) {
+                    log.error("Giving up on email after {} attempts: {}", attempt, failure.getMessage());
+                    fail(job, failure);
+                } else {
+                    retry.add(job);
+                }
+            }
+            if (!retry.isEmpty()) {
+                retryCount.addAndGet(retry.size());
+                log.warn("Retrying {} email(s) in {} ms (attempt {} of {})", retry.size(), backoffMs, attempt + 1, maxAttempts);
+                Thread.sleep(backoffMs);
+                backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+            }
+            pending = retry;
+        }
+    }
+
+    /**
+     * Sends the given jobs over one SMTP connection.
+     *
+     * @param jobs jobs with prepared messages
+     * @return failed messages mapped to their cause, empty if all were sent
+     */
+    private Map<Object, Exception> send(List<EmailJob> jobs) {
+        MimeMessage[] messages = jobs.stream().map(job -> job.message).toArray(MimeMessage[]::new);
+        try {
+            javaMailSender.send(messages);
+            return Map.of();
+        } catch (MailSendException e) {
+            if (!e.getFailedMessages().isEmpty()) {
+                return e.getFailedMessages();
+            }
+            return allFailed(jobs, e);
+        } catch (MailException e) {
+            return allFailed(jobs, e);
+        }
+    }
+
+    private Map<Object, Exception> allFailed(List<EmailJob> jobs, Exception cause) {
+        Map<Object, Exception> failures = new LinkedHashMap<>();
+        jobs.forEach(job -> failures.put(job.message, cause));
+        return failures;
+    }
+
+    private MimeMessage createMimeMessage(EmailDetails emailDetails) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+
+        helper.setFrom(sender);
+        helper.setTo(emailDetails.getRecipient());
+        helper.setSubject(emailDetails.getSubject());
+        helper.setText(emailDetails.getMessageBody(), true);
+        return mimeMessage;
+    }
+
+    private void succeed(EmailJob job) {
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - job.enqueuedAtNanos);
+        sentCount.incrementAndGet();
+        totalLatencyMs.addAndGet(latencyMs);
+        maxLatencyMs.accumulate(latencyMs);
+        job.completion.complete(null);
+    }
+
+    private void fail(EmailJob job, Exception cause) {
+        if (job.completion.completeExceptionally(cause)) {
+            failedCount.incrementAndGet();
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public long getSubmittedCount() {
+        return submittedCount.get();
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    /**
+     * @return average time from enqueue to successful delivery, in milliseconds
+     */
+    public double getAverageLatencyMillis() {
+        long sent = sentCount.get();
+        return sent == 0 ? 0 : (double) totalLatencyMs.get() / sent;
+    }
+
+    /**
+     * @return longest observed time from enqueue to successful delivery, in milliseconds
+     */
+    public long getMaxLatencyMillis() {
+        return maxLatencyMs.get();
+    }
+
+    private static final class EmailJob {
+        private final Supplier<EmailDetails> renderer;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private final long enqueuedAtNanos = System.nanoTime();
+        private MimeMessage message;
+
+        private EmailJob(Supplier<EmailDetails> renderer) {
+            this.renderer = renderer;
+        }
+    }
+}
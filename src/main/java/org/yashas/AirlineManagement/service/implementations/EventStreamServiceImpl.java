@@ -0,0 +1,307 @@
+package org.yashas.AirlineManagement.service.implementations;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.yashas.AirlineManagement.event.FlightCapacityExhaustedEvent;
+import org.yashas.AirlineManagement.event.FlightChangedEvent;
+import org.yashas.AirlineManagement.event.ReservationChangedEvent;
+import org.yashas.AirlineManagement.payload.event.StreamEventDTO;
+import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
+import org.yashas.AirlineManagement.service.interfaces.EventStreamService;
+import org.yashas.AirlineManagement.util.constant.MetricNames;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Server-Sent Events stream of committed flight and reservation changes.
+ * <p>
+ * Changes arrive as application events after their transaction commits and are numbered with a
+ * monotonically increasing offset, which is also the SSE event ID. Offsets start from the boot time, so
+ * those of a new process are above any offset an earlier process handed out. The last
+ * {@code events.stream.ring-buffer-size} events are kept in a ring buffer, so a client that reconnects
+ * with {@code Last-Event-ID} first receives what it missed. If the events it missed are no longer
+ * buffered (or the offset is from before a restart), it receives a {@code stream.reset} event and should
+ * reload its state before applying further events.
+ * <p>
+ * Each subscriber has its own queue of at most {@code events.stream.subscriber-buffer} events, drained
+ * by a small pool of dispatch threads, so a slow client never delays the writers or other clients.
+ * A subscriber whose queue overflows is disconnected; on reconnect it resumes from the ring buffer.
+ * Bulk imports are not announced reservation by reservation.
+ */
+@Service
+@Slf4j
+public class EventStreamServiceImpl implements EventStreamService {
+
+    public static final String RESET = "stream.reset";
+    public static final String CAPACITY_EXHAUSTED = "flight.capacity_exhausted";
+
+    private static final Object KEEPALIVE = new Object();
+
+    private final StreamEventDTO[] ring;
+    private final int subscriberBuffer;
+    private final long timeoutMs;
+    private final int dispatchThreads;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Counter droppedSubscribers;
+
+    // Boot time in milliseconds << 10: an earlier process would have had to publish over 1024 events per
+    // millisecond of its uptime to reach it, and offsets stay below 2^53, exact as JSON numbers in JavaScript
+    private final long firstOffset = System.currentTimeMillis() << 10;
+
+    // Guards the ring buffer and nextOffset, and orders fan-out so every subscriber sees offsets in order
+    private final Object lock = new Object();
+    private long nextOffset = firstOffset;
+
+    private ExecutorService dispatcher;
+
+    public EventStreamServiceImpl(MeterRegistry meterRegistry,
+                                  @Value("${events.stream.ring-buffer-size:10000}") int ringBufferSize,
+                                  @Value("${events.stream.subscriber-buffer:256}") int subscriberBuffer,
+                                  @Value("${events.stream.timeout-ms:1800000}") long timeoutMs,
+                                  @Value("${events.stream.dispatch-threads:2}") int dispatchThreads) {
+        this.ring = new StreamEventDTO[Math.max(1, ringBufferSize)];
+        this.subscriberBuffer = Math.max(1, subscriberBuffer);
+        this.timeoutMs = timeoutMs;
+        this.dispatchThreads = Math.max(1, dispatchThreads);
+        Gauge.builder(MetricNames.EVENT_STREAM_SUBSCRIBERS, subscribers, Set::size)
+                .description("Clients connected to the event stream")
+                .register(meterRegistry);
+        this.droppedSubscribers = Counter.builder(MetricNames.EVENT_STREAM_DROPPED)
+                .description("Event stream clients disconnected because their buffer overflowed")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("event-stream-");
+        threadFactory.setDaemon(true);
+        dispatcher = Executors.newFixedThreadPool(dispatchThreads, threadFactory);
+    }
+
+    @PreDestroy
+    void stop() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        dispatcher.shutdownNow();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFlightChanged(FlightChangedEvent event) {
+        publish("flight." + event.getType().name().toLowerCase(Locale.ROOT),
+                event.getFlightId(), null, null, event.getFlight());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        publish("reservation." + event.getType().name().toLowerCase(Locale.ROOT),
+                event.getFlightId(), event.getReservationId(), event.getPreviousFlightId(), null);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCapacityExhausted(FlightCapacityExhaustedEvent event) {
+        publish(CAPACITY_EXHAUSTED, event.getFlightId(), null, null, null);
+    }
+
+    /**
+     * Opens an event stream.
+     *
+     * @param types event types to receive, e.g. {@code flight.updated}; all types if empty
+     * @param flightIds flights whose events to receive; all flights if empty
+     * @param lastEventId offset of the last event the client received, to resume after it; null to start with new events
+     * @return the emitter the events are sent through
+     */
+    @Override
+    public SseEmitter subscribe(Set<String> types, Set<Long> flightIds, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, Set.copyOf(types), Set.copyOf(flightIds));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        synchronized (lock) {
+            subscriber.enqueue(KEEPALIVE);
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        log.debug("Event stream subscriber connected (types: {}, flights: {}, last event: {})", types, flightIds, lastEventId);
+        return emitter;
+    }
+
+    /**
+     * Comments sent to idle subscribers keep proxies from closing the connection and reveal clients that went away.
+     */
+    @Scheduled(fixedDelayString = "${events.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach(Subscriber::keepAlive);
+    }
+
+    private void publish(String type, Long flightId, Long reservationId, Long previousFlightId, FlightResponseDTO flight) {
+        synchronized (lock) {
+            StreamEventDTO event = new StreamEventDTO(nextOffset++, type, flightId, reservationId, previousFlightId,
+                    flight, LocalDateTime.now());
+            ring[slot(event.getOffset())] = event;
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.accepts(event)) {
+                    subscriber.offer(event);
+                }
+            }
+        }
+    }
+
+    /**
+     * Queues the buffered events after {@code lastEventId}; called with the lock held.
+     */
+    private void replay(Subscriber subscriber, long lastEventId) {
+        long oldest = Math.max(firstOffset, nextOffset - ring.length);
+        long from = lastEventId + 1;
+        if (from < oldest || from > nextOffset) {
+            // Missed events are gone, or the client's offset predates a restart
+            from = oldest;
+            subscriber.enqueue(new StreamEventDTO(from - 1, RESET, null, null, null, null, LocalDateTime.now()));
+        }
+        for (long offset = from; offset < nextOffset; offset++) {
+            StreamEventDTO event = ring[slot(offset)];
+            if (subscriber.accepts(event)) {
+                subscriber.enqueue(event);
+            }
+        }
+    }
+
+    private int slot(long offset) {
+        return (int) (offset % ring.length);
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Set<String> types;
+        private final Set<Long> flightIds;
+
+        // Guarded by this
+        private final Deque<Object> pending = new ArrayDeque<>();
+        private boolean draining;
+        private boolean overflowed;
+
+        Subscriber(SseEmitter emitter, Set<String> types, Set<Long> flightIds) {
+            this.emitter = emitter;
+            this.types = types;
+            this.flightIds = flightIds;
+        }
+
+        boolean accepts(StreamEventDTO event) {
+            return (types.isEmpty() || types.contains(event.getType()))
+                    && (flightIds.isEmpty() || concerns(event.getFlightId()) || concerns(event.getPreviousFlightId()));
+        }
+
+        private boolean concerns(Long flightId) {
+            // The filter sets are immutable and reject contains(null)
+            return flightId != null && flightIds.contains(flightId);
+        }
+
+        /**
+         * Queues a live event, disconnecting the subscriber if its buffer is full.
+         */
+        synchronized void offer(StreamEventDTO event) {
+            if (overflowed) {
+                return;
+            }
+            if (pending.size() >= subscriberBuffer) {
+                overflowed = true;
+                pending.clear();
+                droppedSubscribers.increment();
+                log.debug("Event stream subscriber fell {} events behind; disconnecting it.", subscriberBuffer);
+            } else {
+                pending.add(event);
+            }
+            scheduleDrain();
+        }
+
+        /**
+         * Queues without a size check: replayed events are bounded by the ring buffer.
+         */
+        synchronized void enqueue(Object item) {
+            pending.add(item);
+            scheduleDrain();
+        }
+
+        synchronized void keepAlive() {
+            if (pending.isEmpty() && !overflowed) {
+                enqueue(KEEPALIVE);
+            }
+        }
+
+        private void scheduleDrain() {
+            if (draining) {
+                return;
+            }
+            draining = true;
+            try {
+                dispatcher.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining = false;
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Object next;
+                synchronized (this) {
+                    next = pending.poll();
+                    if (next == null) {
+                        draining = false;
+                        if (overflowed) {
+                            subscribers.remove(this);
+                            emitter.complete();
+                        }
+                        return;
+                    }
+                }
+                try {
+                    send(next);
+                } catch (IOException | IllegalStateException e) {
+                    // Client disconnected or the emitter already completed
+                    subscribers.remove(this);
+                    synchronized (this) {
+                        pending.clear();
+                        draining = false;
+                    }
+                    return;
+                }
+            }
+        }
+
+        private void send(Object item) throws IOException {
+            if (item == KEEPALIVE) {
+                emitter.send(SseEmitter.event().comment("keepalive"));
+                return;
+            }
+            StreamEventDTO event = (StreamEventDTO) item;
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(event.getOffset()))
+                    .name(event.getType())
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package org.yashas.AirlineManagement.service.implementations;
+
+import org.yashas.AirlineManagement.event.FlightChangedEvent;
+import org.yashas.AirlineManagement.repository.FlightArchiveRepository;
+import org.yashas.AirlineManagement.repository.FlightInventoryRepository;
+import org.yashas.AirlineManagement.repository.FlightRepository;
+import org.yashas.AirlineManagement.repository.ReservationArchiveRepository;
+import org.yashas.AirlineManagement.repository.ReservationRepository;
+import org.yashas.AirlineManagement.repository.SeatHoldRepository;
+import org.yashas.AirlineManagement.util.constant.MetricNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import lombok.extern.slf4j.Slf4j;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves flights that arrived more than {@code flight.archive.retention-days} ago, together with their
+ * reservations, from the flight and reservation tables into {@code flight_archive} and {@code reservation_archive}.
+ * The hot tables and their indexes then only grow with current traffic, not with history.
+ * <p>
+ * Flights are archived in batches of {@code flight.archive.batch-size}, each in its own short transaction:
+ * the batch's seat counters are locked so no booking or cancellation of those flights slips in, the rows are
+ * copied with one {@code INSERT ... SELECT} per table, and removed with one bulk delete per table. A failed batch
+ * rolls back whole. Archived flights are announced as {@code ARCHIVED} changes, so caches and in-memory views
+ * drop them; {@code GET /flights/{id}} and {@code GET /reservations/{id}} keep serving them from the archive.
+ */
+@Component
+@ConditionalOnProperty(name = "flight.archive.enabled", havingValue = "true")
+@Slf4j
+public class FlightArchiveService {
+
+    private final FlightRepository flightRepository;
+    private final ReservationRepository reservationRepository;
+    private final FlightInventoryRepository inventoryRepository;
+    private final SeatHoldRepository seatHoldRepository;
+    private final FlightArchiveRepository flightArchiveRepository;
+    private final ReservationArchiveRepository reservationArchiveRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter archivedFlights;
+    private final Counter archivedReservations;
+    private final int retentionDays;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public FlightArchiveService(FlightRepository flightRepository,
+                                ReservationRepository reservationRepository,
+                                FlightInventoryRepository inventoryRepository,
+                                SeatHoldRepository seatHoldRepository,
+                                FlightArchiveRepository flightArchiveRepository,
+                                ReservationArchiveRepository reservationArchiveRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${flight.archive.retention-days:30}") int retentionDays,
+                                @Value("${flight.archive.batch-size:500}") int batchSize,
+                                @Value("${flight.archive.max-batches-per-run:100}") int maxBatchesPerRun) {
+        this.flightRepository = flightRepository;
+        this.reservationRepository = reservationRepository;
+        this.inventoryRepository = inventoryRepository;
+        this.seatHoldRepository = seatHoldRepository;
+        this.flightArchiveRepository = flightArchiveRepository;
+        this.reservationArchiveRepository = reservationArchiveRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archivedFlights = Counter.builder(MetricNames.ARCHIVED_FLIGHTS)
+                .description("Flights moved to the archive")
+                .register(meterRegistry);
+        this.archivedReservations = Counter.builder(MetricNames.ARCHIVED_RESERVATIONS)
+                .description("Reservations moved to the archive with their flights")
+                .register(meterRegistry);
+        this.retentionDays = retentionDays;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+    }
+
+    /**
+     * Archives the flights past their retention. A run stops after {@code flight.archive.max-batches-per-run}
+     * batches, so a large backlog is worked off over several runs.
+     */
+    @Scheduled(initialDelayString = "${flight.archive.interval-ms:3600000}",
+            fixedDelayString = "${flight.archive.interval-ms:3600000}")
+    public void archiveDepartedFlights() {
+        int archived = archiveArrivedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (archived > 0) {
+            log.info("Archived {} flights that arrived more than {} days ago.", archived, retentionDays);
+        }
+    }
+
+    /**
+     * Archives the flights that arrived before the cutoff, with their reservations.
+     *
+     * @param cutoff flights arriving before this time are archived
+     * @return number of flights archived
+     */
+    public int archiveArrivedBefore(LocalDateTime cutoff) {
+        int archived = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int flights = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            archived += flights;
+            if (flights < batchSize) {
+                break;
+            }
+        }
+        return archived;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> flightIds = flightRepository.findIdsArrivedBefore(cutoff, Limit.of(batchSize));
+        if (flightIds.isEmpty()) {
+            return 0;
+        }
+        inventoryRepository.lockByFlightIds(flightIds);
+
+        LocalDateTime archivedAt = LocalDateTime.now();
+        flightArchiveRepository.archive(flightIds, archivedAt);
+        int reservations = reservationArchiveRepository.archiveForFlights(flightIds, archivedAt);
+
+        seatHoldRepository.deleteByFlightIds(flightIds);
+        reservationRepository.deleteByFlightIds(flightIds);
+        inventoryRepository.deleteByFlightIds(flightIds);
+        flightRepository.deleteByIds(flightIds);
+
+        flightIds.forEach(flightId -> eventPublisher.publishEvent(FlightChangedEvent.archived(flightId)));
+        archivedFlights.increment(flightIds.size());
+        archivedReservations.increment(reservations);
+        log.debug("Archived flights {} with {} reservations.", flightIds, reservations);
+        return flightIds.size();
+    }
+}
@@ -0,0 +1,108 @@
+package org.yashas.AirlineManagement.service.implementations;
+
+import org.yashas.AirlineManagement.event.FlightChangedEvent;
+import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
+import org.yashas.AirlineManagement.repository.FlightRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import lombok.extern.slf4j.Slf4j;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Time-dependent flight graph used by the itinerary search.
+ * Airports are nodes and flights are timed edges; for each airport the outgoing flights are kept
+ * sorted by departure time, so the connections available after an arrival are a range scan.
+ * <p>
+ * The graph is loaded once the application is ready and updated edge by edge from
+ * {@link FlightChangedEvent}s after commit, never rebuilt per request. Flights without both a
+ * departure and an arrival time cannot be part of a schedule and are left out, and so are flights
+ * that have already departed: those are dropped as they go by, on every {@code itinerary.graph.prune-interval-ms}.
+ */
+@Service
+@Slf4j
+public class FlightGraph extends AbstractFlightView {
+
+    private static final Comparator<DepartureKey> DEPARTURE_ORDER = Comparator
+            .comparing(DepartureKey::departureTime)
+            .thenComparingLong(DepartureKey::flightId);
+
+    private final ConcurrentMap<String, ConcurrentSkipListMap<DepartureKey, FlightResponseDTO>> departuresByAirport = new ConcurrentHashMap<>();
+
+    public FlightGraph(FlightRepository flightRepository,
+                       PlatformTransactionManager transactionManager) {
+        super(flightRepository, transactionManager);
+    }
+
+    /**
+     * Flights leaving an airport within a departure window, ordered by departure time.
+     * The returned flights are shared with the graph and must not be modified.
+     *
+     * @param airport departure location
+     * @param from earliest departure time, inclusive
+     * @param to latest departure time, inclusive
+     * @return live view of the matching flights
+     */
+    public Collection<FlightResponseDTO> departures(String airport, LocalDateTime from, LocalDateTime to) {
+        ConcurrentSkipListMap<DepartureKey, FlightResponseDTO> departures = departuresByAirport.get(airport);
+        if (departures == null) {
+            return List.of();
+        }
+        return departures.subMap(new DepartureKey(from, Long.MIN_VALUE), true, new DepartureKey(to, Long.MAX_VALUE), true)
+                         .values();
+    }
+
+    /**
+     * Drops the flights that have departed since the last pass; they can no longer be part of an itinerary.
+     */
+    @Scheduled(fixedDelayString = "${itinerary.graph.prune-interval-ms:600000}",
+            initialDelayString = "${itinerary.graph.prune-interval-ms:600000}")
+    public void pruneDeparted() {
+        LocalDateTime now = LocalDateTime.now();
+        int pruned = removeIf(flight -> flight.getDepartureTime().isBefore(now));
+        if (pruned > 0) {
+            log.debug("Pruned {} departed flights from the flight graph", pruned);
+        }
+    }
+
+    @Override
+    protected boolean accepts(FlightResponseDTO flight) {
+        return flight.getDeparture() != null && flight.getDepartureTime() != null && flight.getArrivalTime() != null
+                && !flight.getDepartureTime().isBefore(LocalDateTime.now());
+    }
+
+    @Override
+    protected void index(FlightResponseDTO flight) {
+        departuresByAirport.computeIfAbsent(flight.getDeparture(), airport -> new ConcurrentSkipListMap<>(DEPARTURE_ORDER))
+                           .put(departureOf(flight), flight);
+    }
+
+    @Override
+    protected void unindex(FlightResponseDTO flight) {
+        ConcurrentSkipListMap<DepartureKey, FlightResponseDTO> departures = departuresByAirport.get(flight.getDeparture());
+        if (departures != null) {
+            departures.remove(departureOf(flight));
+            if (departures.isEmpty()) {
+                departuresByAirport.remove(flight.getDeparture(), departures);
+            }
+        }
+    }
+
+    @Override
+    protected void onLoaded(long elapsedMillis) {
+        log.info("Flight graph loaded {} flights from {} airports in {} ms", size(), departuresByAirport.size(), elapsedMillis);
+    }
+
+    private static DepartureKey departureOf(FlightResponseDTO flight) {
+        return new DepartureKey(flight.getDepartureTime(), flight.getId());
+    }
+
+    private record DepartureKey(LocalDateTime departureTime, long flightId) {
+    }
+}
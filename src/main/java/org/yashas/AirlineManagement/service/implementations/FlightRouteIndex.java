@@ -0,0 +1,115 @@
+package org.yashas.AirlineManagement.service.implementations;
+
+import org.yashas.AirlineManagement.event.FlightChangedEvent;
+import org.yashas.AirlineManagement.payload.flight.FlightFilterRequestDTO;
+import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
+import org.yashas.AirlineManagement.repository.FlightRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import lombok.extern.slf4j.Slf4j;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory index of flights keyed by (departure, destination), with each route's flights
+ * sorted by departure time. Lets {@code POST /flights/filter} answer route and date queries
+ * with a map lookup and a range scan instead of a database round trip.
+ * <p>
+ * The index is loaded once the application is ready and then kept in sync through
+ * {@link FlightChangedEvent}s applied after commit. Until loading completes, and for filters
+ * without both locations, {@link #search} returns empty and callers fall back to the database.
+ */
+@Service
+@ConditionalOnProperty(name = "flight.search.route-index.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class FlightRouteIndex extends AbstractFlightView {
+
+    private static final Comparator<DepartureKey> DEPARTURE_ORDER = Comparator
+            .comparing(DepartureKey::departureTime, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparingLong(DepartureKey::flightId);
+
+    private final ConcurrentMap<RouteKey, ConcurrentSkipListMap<DepartureKey, FlightResponseDTO>> routes = new ConcurrentHashMap<>();
+
+    public FlightRouteIndex(FlightRepository flightRepository,
+                            PlatformTransactionManager transactionManager) {
+        super(flightRepository, transactionManager);
+    }
+
+    /**
+     * Answers a flight filter from the index, applying the same criteria as {@code FlightSpecification}.
+     *
+     * @param filter filtering criteria
+     * @return matching flights ordered by departure time, or empty if the index cannot answer the filter
+     */
+    public Optional<List<FlightResponseDTO>> search(FlightFilterRequestDTO filter) {
+        if (!isReady() || filter.getDepartureLocation() == null || filter.getArrivalLocation() == null) {
+            return Optional.empty();
+        }
+
+        NavigableMap<DepartureKey, FlightResponseDTO> flights =
+                routes.get(new RouteKey(filter.getDepartureLocation(), filter.getArrivalLocation()));
+        if (flights == null) {
+            return Optional.of(List.of());
+        }
+
+        if (filter.getDepartureDate() != null) {
+            flights = flights.subMap(
+                    new DepartureKey(filter.getDepartureDate().atStartOfDay(), Long.MIN_VALUE), true,
+                    new DepartureKey(filter.getDepartureDate().atTime(23, 59, 59), Long.MAX_VALUE), true);
+        }
+
+        LocalDateTime arrivalLimit = filter.getArrivalDate() != null ? filter.getArrivalDate().atTime(23, 59, 59) : null;
+        List<FlightResponseDTO> result = new ArrayList<>();
+        for (FlightResponseDTO flight : flights.values()) {
+            if (arrivalLimit == null || (flight.getArrivalTime() != null && !flight.getArrivalTime().isAfter(arrivalLimit))) {
+                result.add(copyOf(flight));
+            }
+        }
+        return Optional.of(result);
+    }
+
+    @Override
+    protected void index(FlightResponseDTO flight) {
+        routes.computeIfAbsent(routeOf(flight), key -> new ConcurrentSkipListMap<>(DEPARTURE_ORDER))
+              .put(departureOf(flight), flight);
+    }
+
+    @Override
+    protected void unindex(FlightResponseDTO flight) {
+        RouteKey route = routeOf(flight);
+        ConcurrentSkipListMap<DepartureKey, FlightResponseDTO> flights = routes.get(route);
+        if (flights != null) {
+            flights.remove(departureOf(flight));
+            if (flights.isEmpty()) {
+                routes.remove(route, flights);
+            }
+        }
+    }
+
+    @Override
+    protected void onLoaded(long elapsedMillis) {
+        log.info("Flight route index loaded {} flights on {} routes in {} ms", size(), routes.size(), elapsedMillis);
+    }
+
+    private static RouteKey routeOf(FlightResponseDTO flight) {
+        return new RouteKey(flight.getDeparture(), flight.getDestination());
+    }
+
+    private static DepartureKey departureOf(FlightResponseDTO flight) {
+        return new DepartureKey(flight.getDepartureTime(), flight.getId());
+    }
+
+    private record RouteKey(String departure, String destination) {
+    }
+
+    private record DepartureKey(LocalDateTime departureTime, long flightId) {
+    }
+}
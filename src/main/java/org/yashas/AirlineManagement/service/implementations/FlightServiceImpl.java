@@ -1,33 +1,52 @@
 package org.yashas.AirlineManagement.service.implementations;
 
+import org.yashas.AirlineManagement.event.FlightChangedEvent;
 import org.yashas.AirlineManagement.exception.entityrelated.AirplaneNotFoundException;
 import org.yashas.AirlineManagement.exception.entityrelated.FlightNotFoundException;
 import org.yashas.AirlineManagement.exception.entityrelated.NoFlightsMatchingCriteriaException;
 import org.yashas.AirlineManagement.exception.state.AirplaneNotAvailableException;
+import org.yashas.AirlineManagement.exception.state.ConcurrentUpdateConflictException;
 import org.yashas.AirlineManagement.exception.state.DuplicateFlightNumberException;
 import org.yashas.AirlineManagement.exception.state.InvalidFlightTimeException;
 import org.yashas.AirlineManagement.exception.state.NoChangesMadeException;
 import org.yashas.AirlineManagement.mapper.FlightMapper;
 import org.yashas.AirlineManagement.model.Airplane;
 import org.yashas.AirlineManagement.model.Flight;
+import org.yashas.AirlineManagement.payload.common.CursorPage;
+import org.yashas.AirlineManagement.payload.flight.FlightAvailabilityDTO;
 import org.yashas.AirlineManagement.payload.flight.FlightFilterRequestDTO;
 import org.yashas.AirlineManagement.payload.flight.FlightRequestDTO;
 import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
 import org.yashas.AirlineManagement.payload.flight.PartialFlightRequestDTO;
 import org.yashas.AirlineManagement.repository.AirplaneRepository;
+import org.yashas.AirlineManagement.repository.FlightArchiveRepository;
 import org.yashas.AirlineManagement.repository.FlightRepository;
 import org.yashas.AirlineManagement.service.interfaces.FlightService;
 import org.yashas.AirlineManagement.spesification.FlightSpecification;
+import org.yashas.AirlineManagement.util.concurrent.SingleFlight;
+import org.yashas.AirlineManagement.util.constant.CacheNames;
+import org.yashas.AirlineManagement.util.constant.MetricNames;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import java.lang.reflect.Field;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = MetricNames.SERVICE, histogram = true)
 @RequiredArgsConstructor
 @Slf4j
 public class FlightServiceImpl implements FlightService {
@@ -35,34 +54,59 @@ public class FlightServiceImpl implements FlightService {
     private final FlightRepository flightRepository;
     private final AirplaneRepository airplaneRepository;
     private final FlightMapper flightMapper;
+    private final SeatInventoryService seatInventoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<FlightRouteIndex> flightRouteIndex;
+    private final ConflictRetryExecutor conflictRetryExecutor;
+    private final SingleFlight<Long, FlightResponseDTO> flightLookups;
+    private final FlightArchiveRepository flightArchiveRepository;
 
     /**
-     * Retrieves a list of all flights as DTOs.
+     * Retrieves one page of flights ordered by ID, starting after the given cursor.
      *
-     * @return list of all flight DTOs, or an empty list if none are found
+     * @param after ID of the last flight of the previous page, or null for the first page
+     * @param limit maximum number of flights to return
+     * @return page of flight DTOs with the cursor of the next page, if any
      */
     @Override
     @Transactional(readOnly = true)
-    public List<FlightResponseDTO> getAllFlights() {
-        return flightRepository.findAll()
-                .stream()
-                .map(flightMapper::toResponse)
-                .collect(Collectors.toList());
+    public CursorPage<FlightResponseDTO> getAllFlights(Long after, int limit) {
+        List<FlightResponseDTO> flights = flightRepository.findResponsesAfter(after != null ? after : 0L, Limit.of(limit + 1));
+        return CursorPage.of(flights, limit, FlightResponseDTO::getId);
+    }
+
+    /**
+     * Passes every flight, ordered by ID, to the consumer one at a time.
+     * Flights are read over a single database cursor straight into DTOs,
+     * so memory use does not grow with the number of flights.
+     *
+     * @param consumer receives each flight DTO
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllFlights(Consumer<FlightResponseDTO> consumer) {
+        try (Stream<FlightResponseDTO> flights = flightRepository.streamAllResponses()) {
+            flights.forEach(consumer);
+        }
     }
 
     /**
      * Retrieves a specific flight by its unique ID.
+     * Results are cached and evicted once a change to the flight commits. Concurrent cache misses
+     * for the same flight share one query; the repository reads in its own read-only transaction,
+     * so callers waiting for that query do not hold a connection. Archived flights are read from the archive.
      *
      * @param id ID of the flight to retrieve
      * @return flight response DTO corresponding to the given ID
      * @throws FlightNotFoundException if no flight with the given ID is found
      */
     @Override
-    @Transactional(readOnly = true)
+    @Cacheable(CacheNames.FLIGHTS)
     public FlightResponseDTO getFlightById(Long id) {
-        return flightRepository.findById(id)
+        return flightLookups.load(id, () -> flightRepository.findById(id)
                 .map(flightMapper::toResponse)
-                .orElseThrow(() -> new FlightNotFoundException(id));
+                .or(() -> flightArchiveRepository.findById(id).map(flightMapper::toResponse))
+                .orElseThrow(() -> new FlightNotFoundException(id)));
     }
 
     /**
@@ -75,18 +119,19 @@ public class FlightServiceImpl implements FlightService {
     @Override
     @Transactional(readOnly = true)
     public List<FlightResponseDTO> getFlightsByAirplaneId(Long airplaneId) {
-        Airplane airplane = airplaneRepository.findById(airplaneId)
-                .orElseThrow(() -> new AirplaneNotFoundException(airplaneId));
+        if (!airplaneRepository.existsById(airplaneId)) {
+            throw new AirplaneNotFoundException(airplaneId);
+        }
 
-        List<Flight> flights = flightRepository.findByAirplaneId(airplane.getId());
-        return flights.stream()
-                .map(flightMapper::toResponse)
-                .collect(Collectors.toList());
+        return flightRepository.findResponsesByAirplaneId(airplaneId);
     }
 
     /**
      * Filters flights based on various criteria such as departure location, destination,
      * and departure/arrival dates.
+     * Route queries (both locations given) are answered from the in-memory route index when it is
+     * enabled and loaded; other queries use the (departure, destination, departure_time) index.
+     * Each result carries the seats left, read from the seat counters in one query.
      *
      * @param filter filtering criteria encapsulated in a DTO
      * @return list of flights matching the provided criteria
@@ -95,13 +140,40 @@ public class FlightServiceImpl implements FlightService {
     @Override
     @Transactional(readOnly = true)
     public List<FlightResponseDTO> getFilteredFlights(FlightFilterRequestDTO filter) {
-        List<Flight> flights = flightRepository.findAll(FlightSpecification.filterFlights(filter));
+        FlightRouteIndex routeIndex = flightRouteIndex.getIfAvailable();
+        List<FlightResponseDTO> flights = Optional.ofNullable(routeIndex)
+                .flatMap(index -> index.search(filter))
+                .orElseGet(() -> flightRepository.findAll(FlightSpecification.filterFlights(filter))
+                        .stream()
+                        .map(flightMapper::toResponse)
+                        .collect(Collectors.toList()));
         if (flights.isEmpty()) {
             throw new NoFlightsMatchingCriteriaException();
         }
-        return flights.stream()
-                      .map(flightMapper::toResponse)
-                      .collect(Collectors.toList());
+        Map<Long, Integer> seatsRemaining = seatInventoryService.getAvailability(
+                        flights.stream().map(FlightResponseDTO::getId).toList()).stream()
+                .collect(Collectors.toMap(FlightAvailabilityDTO::getFlightId, FlightAvailabilityDTO::getSeatsRemaining));
+        flights.forEach(flight -> flight.setSeatsRemaining(seatsRemaining.get(flight.getId())));
+        return flights;
+    }
+
+    /**
+     * Retrieves the seats left on each of the given flights from their seat counters, in one query.
+     *
+     * @param flightIds IDs of the flights; duplicates are ignored
+     * @return availability of each existing flight, in the order requested; unknown IDs are left out
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<FlightAvailabilityDTO> getFlightAvailability(List<Long> flightIds) {
+        Map<Long, FlightAvailabilityDTO> availability = seatInventoryService.getAvailability(new LinkedHashSet<>(flightIds))
+                .stream()
+                .collect(Collectors.toMap(FlightAvailabilityDTO::getFlightId, Function.identity()));
+        return flightIds.stream()
+                .distinct()
+                .map(availability::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
     
     /**
@@ -136,10 +208,13 @@ public class FlightServiceImpl implements FlightService {
         flight.setAirplane(airplane);
 
         Flight savedFlight = flightRepository.save(flight);
+        seatInventoryService.initialize(savedFlight);
 
         log.info("New flight created with ID: {}", savedFlight.getId());
 
-        return flightMapper.toResponse(savedFlight);
+        FlightResponseDTO response = flightMapper.toResponse(savedFlight);
+        eventPublisher.publishEvent(FlightChangedEvent.created(response));
+        return response;
     }
 
     /**
@@ -150,10 +225,14 @@ public class FlightServiceImpl implements FlightService {
      * @return updated flight as a response DTO
      * @throws FlightNotFoundException if the flight with the given ID is not found
      * @throws NoChangesMadeException if no changes are applied to the flight
+     * @throws ConcurrentUpdateConflictException if concurrent updates of the flight kept winning the race
      */
     @Override
-    @Transactional
     public FlightResponseDTO partialUpdateFlight(Long flightId, PartialFlightRequestDTO flightDTO) {
+        return conflictRetryExecutor.execute("flight", flightId, () -> applyPartialUpdate(flightId, flightDTO));
+    }
+
+    private FlightResponseDTO applyPartialUpdate(Long flightId, PartialFlightRequestDTO flightDTO) {
         Flight existingFlight = flightRepository.findById(flightId)
                 .orElseThrow(() -> new FlightNotFoundException(flightId));
     
@@ -166,7 +245,9 @@ public class FlightServiceImpl implements FlightService {
     
         log.info("Flight with ID {} successfully updated.", flightId);
 
-        return flightMapper.toResponse(updatedFlight);
+        FlightResponseDTO response = flightMapper.toResponse(updatedFlight);
+        eventPublisher.publishEvent(FlightChangedEvent.updated(response));
+        return response;
     }
     
     /**
@@ -185,8 +266,9 @@ public class FlightServiceImpl implements FlightService {
             Airplane airplane = airplaneRepository.findById(flightDTO.getAirplaneId())
                     .orElseThrow(() -> new AirplaneNotFoundException(flightDTO.getAirplaneId()));
             flight.setAirplane(airplane);
+            seatInventoryService.updateCapacity(flight.getId(), airplane.getCapacity());
             isUpdated = true;
-            log.info("Updated airplane with ID: {}", flightDTO.getAirplaneId());
+            log.debug("Updated airplane with ID: {}", flightDTO.getAirplaneId());
         }
     
         if (flightDTO.getDepartureTime() != null && flightDTO.getArrivalTime() != null) {
@@ -195,24 +277,8 @@ public class FlightServiceImpl implements FlightService {
             }
         }
     
-        for (Field field : PartialFlightRequestDTO.class.getDeclaredFields()) {
-            try {
-                field.setAccessible(true);
-                Object dtoValue = field.get(flightDTO);
-                if (dtoValue != null) {
-                    Field flightField = Flight.class.getDeclaredField(field.getName());
-                    flightField.setAccessible(true);
-                    Object flightValue = flightField.get(flight);
-                    
-                    if (!Objects.equals(flightValue, dtoValue)) {
-                        flightField.set(flight, dtoValue);
-                        isUpdated = true;
-                        log.info("Updated field: {} with value: {}", field.getName(), dtoValue);
-                    }
-                }
-            } catch (NoSuchFieldException | IllegalAccessException e) {
-                log.error("Error updating field: {}", field.getName(), e);
-            }
+        if (!FlightMapper.PATCH.apply(flightDTO, flight).isEmpty()) {
+            isUpdated = true;
         }
     
         return isUpdated;
@@ -232,6 +298,8 @@ public class FlightServiceImpl implements FlightService {
 
         log.info("Flight with ID {} has been deleted", flightId);
 
+        seatInventoryService.remove(flightId);
         flightRepository.deleteById(flightId);
+        eventPublisher.publishEvent(FlightChangedEvent.deleted(flightId));
     }
 }
\ No newline at end of file
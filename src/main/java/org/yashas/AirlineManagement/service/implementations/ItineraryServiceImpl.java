@@ -0,0 +1,175 @@
+package org.yashas.AirlineManagement.service.implementations;
+
+import org.yashas.AirlineManagement.exception.entityrelated.NoFlightsMatchingCriteriaException;
+import org.yashas.AirlineManagement.exception.state.FlightGraphLoadingException;
+import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
+import org.yashas.AirlineManagement.payload.itinerary.ItineraryResponseDTO;
+import org.yashas.AirlineManagement.payload.itinerary.ItinerarySearchRequestDTO;
+import org.yashas.AirlineManagement.service.interfaces.ItineraryService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import lombok.extern.slf4j.Slf4j;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * Searches direct and connecting itineraries over the in-memory {@link FlightGraph}.
+ * <p>
+ * The search is a bounded earliest-arrival search in the style of Dijkstra: partial itineraries
+ * are expanded in order of arrival time, so the first K that reach the destination are the K
+ * earliest-arriving ones. Each (airport, legs flown) pair is expanded at most K times; a later
+ * arrival at the same airport cannot catch a connection an earlier one missed, so further labels
+ * there cannot improve the top K. The number of expansions per request is capped as well.
+ */
+@Service
+@Slf4j
+public class ItineraryServiceImpl implements ItineraryService {
+
+    private static final Duration GRAPH_LOAD_WAIT = Duration.ofSeconds(10);
+
+    private static final Comparator<Label> EARLIEST_ARRIVAL = Comparator
+            .comparing((Label label) -> label.flight().getArrivalTime())
+            .thenComparingInt(Label::legs)
+            .thenComparing(Label::firstDeparture, Comparator.reverseOrder());
+
+    private final FlightGraph flightGraph;
+    private final int defaultMaxStops;
+    private final int defaultMinConnectionMinutes;
+    private final Duration maxConnection;
+    private final int defaultLimit;
+    private final int maxExpansions;
+
+    public ItineraryServiceImpl(FlightGraph flightGraph,
+                                @Value("${itinerary.search.default-max-stops:2}") int defaultMaxStops,
+                                @Value("${itinerary.search.default-min-connection-minutes:45}") int defaultMinConnectionMinutes,
+                                @Value("${itinerary.search.max-connection-hours:24}") long maxConnectionHours,
+                                @Value("${itinerary.search.default-limit:5}") int defaultLimit,
+                                @Value("${itinerary.search.max-expansions:20000}") int maxExpansions) {
+        this.flightGraph = flightGraph;
+        this.defaultMaxStops = defaultMaxStops;
+        this.defaultMinConnectionMinutes = defaultMinConnectionMinutes;
+        this.maxConnection = Duration.ofHours(maxConnectionHours);
+        this.defaultLimit = defaultLimit;
+        this.maxExpansions = maxExpansions;
+    }
+
+    /**
+     * Finds the earliest-arriving itineraries between two locations, leaving on the given date.
+     *
+     * @param request search criteria
+     * @return up to {@code limit} itineraries ordered by arrival time, then number of stops
+     * @throws NoFlightsMatchingCriteriaException if no itinerary matches the criteria
+     * @throws FlightGraphLoadingException if the flight graph is still loading after startup
+     */
+    @Override
+    public List<ItineraryResponseDTO> searchItineraries(ItinerarySearchRequestDTO request) {
+        awaitGraph();
+
+        String origin = request.getDepartureLocation();
+        String destination = request.getArrivalLocation();
+        int maxLegs = Objects.requireNonNullElse(request.getMaxStops(), defaultMaxStops) + 1;
+        Duration minConnection = Duration.ofMinutes(
+                Objects.requireNonNullElse(request.getMinConnectionMinutes(), defaultMinConnectionMinutes));
+        int limit = Objects.requireNonNullElse(request.getLimit(), defaultLimit);
+
+        PriorityQueue<Label> queue = new PriorityQueue<>(EARLIEST_ARRIVAL);
+        for (FlightResponseDTO flight : flightGraph.departures(origin,
+                request.getDepartureDate().atStartOfDay(), request.getDepartureDate().atTime(23, 59, 59))) {
+            if (!origin.equals(flight.getDestination())) {
+                queue.add(new Label(flight, null, 1));
+            }
+        }
+
+        List<ItineraryResponseDTO> itineraries = new ArrayList<>(limit);
+        Map<Node, Integer> expanded = new HashMap<>();
+        int expansions = 0;
+        while (!queue.isEmpty() && itineraries.size() < limit && expansions < maxExpansions) {
+            Label label = queue.poll();
+            String airport = label.flight().getDestination();
+
+            if (airport.equals(destination)) {
+                itineraries.add(toItinerary(label));
+                continue;
+            }
+            if (label.legs() >= maxLegs || expanded.merge(new Node(airport, label.legs()), 1, Integer::sum) > limit) {
+                continue;
+            }
+
+            expansions++;
+            LocalDateTime arrival = label.flight().getArrivalTime();
+            for (FlightResponseDTO next : flightGraph.departures(airport, arrival.plus(minConnection), arrival.plus(maxConnection))) {
+                if (!label.visits(next.getDestination())) {
+                    queue.add(new Label(next, label, label.legs() + 1));
+                }
+            }
+        }
+
+        if (expansions >= maxExpansions) {
+            log.warn("Itinerary search {} -> {} stopped after {} expansions", origin, destination, expansions);
+        }
+        if (itineraries.isEmpty()) {
+            throw new NoFlightsMatchingCriteriaException();
+        }
+        return itineraries;
+    }
+
+    private void awaitGraph() {
+        try {
+            if (!flightGraph.awaitLoaded(GRAPH_LOAD_WAIT)) {
+                throw new FlightGraphLoadingException();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlightGraphLoadingException();
+        }
+    }
+
+    private ItineraryResponseDTO toItinerary(Label last) {
+        List<FlightResponseDTO> legs = new ArrayList<>(last.legs());
+        for (Label label = last; label != null; label = label.previous()) {
+            FlightResponseDTO flight = label.flight();
+            legs.add(new FlightResponseDTO(flight.getId(), flight.getFlightNumber(), flight.getDeparture(),
+                    flight.getDestination(), flight.getDepartureTime(), flight.getArrivalTime(), flight.getAirplaneId()));
+        }
+        Collections.reverse(legs);
+
+        LocalDateTime departureTime = legs.get(0).getDepartureTime();
+        LocalDateTime arrivalTime = last.flight().getArrivalTime();
+        return new ItineraryResponseDTO(legs, legs.size() - 1, departureTime, arrivalTime,
+                Duration.between(departureTime, arrivalTime).toMinutes());
+    }
+
+    /**
+     * Partial itinerary ending with {@code flight}; {@code previous} links back to the first leg.
+     */
+    private record Label(FlightResponseDTO flight, Label previous, int legs) {
+
+        LocalDateTime firstDeparture() {
+            Label label = this;
+            while (label.previous() != null) {
+                label = label.previous();
+            }
+            return label.flight().getDepartureTime();
+        }
+
+        boolean visits(String airport) {
+            for (Label label = this; label != null; label = label.previous()) {
+                if (label.flight().getDeparture().equals(airport)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Node(String airport, int legs) {
+    }
+}
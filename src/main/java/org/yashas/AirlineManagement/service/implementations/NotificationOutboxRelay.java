@@ -0,0 +1,156 @@
+package org.yashas.AirlineManagement.service.implementations;
+
+import org.yashas.AirlineManagement.mapper.ReservationMapper;
+import org.yashas.AirlineManagement.model.NotificationOutbox;
+import org.yashas.AirlineManagement.model.OutboxStatus;
+import org.yashas.AirlineManagement.model.Reservation;
+import org.yashas.AirlineManagement.payload.reservation.ReservationResponseDTO;
+import org.yashas.AirlineManagement.repository.NotificationOutboxRepository;
+import org.yashas.AirlineManagement.repository.ReservationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import lombok.extern.slf4j.Slf4j;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the notification outbox in batches and hands the emails to the dispatch pipeline.
+ * Entries are claimed with a conditional update, so several instances can run the relay at once.
+ * Delivery is at-least-once: if an instance dies after sending but before marking an entry as sent,
+ * the claim lease expires and the entry is dispatched again.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class NotificationOutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationMapper reservationMapper;
+    private final ReservationEmailService emailService;
+    private final EmailDispatchService emailDispatchService;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryDelayMs;
+    private final long leaseMs;
+    private final int retentionDays;
+
+    public NotificationOutboxRelay(NotificationOutboxRepository outboxRepository,
+                                   ReservationRepository reservationRepository,
+                                   ReservationMapper reservationMapper,
+                                   ReservationEmailService emailService,
+                                   EmailDispatchService emailDispatchService,
+                                   @Value("${notification.outbox.batch-size:100}") int batchSize,
+                                   @Value("${notification.outbox.max-attempts:5}") int maxAttempts,
+                                   @Value("${notification.outbox.retry-delay-ms:30000}") long retryDelayMs,
+                                   @Value("${notification.outbox.lease-ms:300000}") long leaseMs,
+                                   @Value("${notification.outbox.retention-days:7}") int retentionDays) {
+        this.outboxRepository = outboxRepository;
+        this.reservationRepository = reservationRepository;
+        this.reservationMapper = reservationMapper;
+        this.emailService = emailService;
+        this.emailDispatchService = emailDispatchService;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryDelayMs = retryDelayMs;
+        this.leaseMs = leaseMs;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * Claims the next batch of dispatchable entries and queues their emails.
+     * The batch never exceeds the free space in the mail queue, so a slow mail server
+     * leaves entries in the outbox instead of overflowing the pipeline.
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.relay-interval-ms:1000}")
+    public void relay() {
+        int capacity = Math.min(batchSize, emailDispatchService.getQueueCapacity() - emailDispatchService.getQueueDepth());
+        if (capacity <= 0) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime retryBefore = now.minus(retryDelayMs, ChronoUnit.MILLIS);
+        LocalDateTime staleBefore = now.minus(leaseMs, ChronoUnit.MILLIS);
+        List<NotificationOutbox> candidates = outboxRepository.findDispatchable(
+                OutboxStatus.PENDING, OutboxStatus.IN_FLIGHT, retryBefore, staleBefore, Limit.of(capacity));
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Reservation> reservations = reservationRepository
+                .findAllById(candidates.stream().map(NotificationOutbox::getReservationId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Reservation::getId, Function.identity()));
+
+        int dispatched = 0;
+        for (NotificationOutbox entry : candidates) {
+            int claimed = outboxRepository.claim(entry.getId(), OutboxStatus.PENDING, OutboxStatus.IN_FLIGHT,
+                    now, retryBefore, staleBefore);
+            if (claimed == 1) {
+                dispatch(entry, reservations.get(entry.getReservationId()));
+                dispatched++;
+            }
+        }
+        log.debug("Outbox relay dispatched {} notification(s).", dispatched);
+    }
+
+    /**
+     * Removes delivered entries once they are older than the retention period.
+     */
+    @Scheduled(fixedDelayString = "${notification.outbox.purge-interval-ms:3600000}")
+    public void purgeDelivered() {
+        int purged = outboxRepository.deleteProcessedBefore(OutboxStatus.SENT, LocalDateTime.now().minusDays(retentionDays));
+        if (purged > 0) {
+            log.info("Purged {} delivered outbox entries.", purged);
+        }
+    }
+
+    private void dispatch(NotificationOutbox entry, Reservation reservation) {
+        if (reservation == null) {
+            complete(entry, OutboxStatus.FAILED, "Reservation " + entry.getReservationId() + " no longer exists");
+            return;
+        }
+
+        ReservationResponseDTO reservationDTO = reservationMapper.toResponse(reservation);
+        CompletableFuture<Void> delivery = switch (entry.getType()) {
+            case RESERVATION_CONFIRMATION -> emailService.sendConfirmationEmail(reservationDTO);
+            case FLIGHT_CHANGE -> emailService.sendFlightChangeNotificationEmail(reservationDTO, entry.getFlightId());
+        };
+
+        delivery.whenComplete((ignored, e) -> {
+            if (e == null) {
+                complete(entry, OutboxStatus.SENT, null);
+            } else {
+                // the claim already counted this attempt
+                OutboxStatus next = entry.getAttempts() + 1 >= maxAttempts ? OutboxStatus.FAILED : OutboxStatus.PENDING;
+                complete(entry, next, describe(e));
+            }
+        });
+    }
+
+    private void complete(NotificationOutbox entry, OutboxStatus status, String error) {
+        try {
+            outboxRepository.complete(entry.getId(), OutboxStatus.IN_FLIGHT, status, LocalDateTime.now(), error);
+        } catch (Exception e) {
+            log.error("Failed to update outbox entry {} to {}", entry.getIdempotencyKey(), status, e);
+        }
+    }
+
+    private String describe(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        String message = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
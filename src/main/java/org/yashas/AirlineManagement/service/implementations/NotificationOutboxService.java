@@ -0,0 +1,116 @@
+package org.yashas.AirlineManagement.service.implementations;
+
+import org.yashas.AirlineManagement.model.NotificationOutbox;
+import org.yashas.AirlineManagement.model.NotificationType;
+import org.yashas.AirlineManagement.model.OutboxStatus;
+import org.yashas.AirlineManagement.model.Reservation;
+import org.yashas.AirlineManagement.repository.NotificationOutboxRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Records passenger notifications in the outbox table.
+ * Every method joins the caller's transaction, so a notification exists if and only if
+ * the reservation change that caused it was committed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository outboxRepository;
+
+    /**
+     * Records the confirmation for a reservation that was just created.
+     * The reservation code is new, so no lookup for an existing entry is needed.
+     *
+     * @param reservation the newly persisted reservation
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordNewReservation(Reservation reservation) {
+        outboxRepository.save(newEntry(NotificationType.RESERVATION_CONFIRMATION, reservation, null));
+    }
+
+    /**
+     * Records the confirmations for reservations created together, e.g. by a bulk import.
+     * The entries are saved in one go so Hibernate can batch their inserts.
+     *
+     * @param reservations the newly persisted reservations
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordNewReservations(Collection<Reservation> reservations) {
+        outboxRepository.saveAll(reservations.stream()
+                .map(reservation -> newEntry(NotificationType.RESERVATION_CONFIRMATION, reservation, null))
+                .toList());
+    }
+
+    /**
+     * Records a confirmation for an existing reservation, e.g. after the passenger email changed.
+     *
+     * @param reservation the updated reservation
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordConfirmation(Reservation reservation) {
+        record(NotificationType.RESERVATION_CONFIRMATION, reservation, null);
+    }
+
+    /**
+     * Records a flight change notification for a reservation moved to another flight.
+     *
+     * @param reservation the updated reservation
+     * @param newFlightId the ID of the new flight
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordFlightChange(Reservation reservation, Long newFlightId) {
+        record(NotificationType.FLIGHT_CHANGE, reservation, newFlightId);
+    }
+
+    /**
+     * Inserts the entry, or re-arms an already processed entry with the same idempotency key.
+     * An entry that is still pending or in flight already covers this notification.
+     */
+    private void record(NotificationType type, Reservation reservation, Long flightId) {
+        String key = idempotencyKey(type, reservation, flightId);
+        outboxRepository.findByIdempotencyKey(key).ifPresentOrElse(existing -> {
+            if (existing.getStatus() == OutboxStatus.SENT || existing.getStatus() == OutboxStatus.FAILED) {
+                existing.setStatus(OutboxStatus.PENDING);
+                existing.setAttempts(0);
+                existing.setClaimedAt(null);
+                existing.setProcessedAt(null);
+                existing.setLastError(null);
+            } else {
+                log.debug("Notification {} is already queued.", key);
+            }
+        }, () -> outboxRepository.save(newEntry(type, reservation, flightId)));
+    }
+
+    private NotificationOutbox newEntry(NotificationType type, Reservation reservation, Long flightId) {
+        return NotificationOutbox.builder()
+                .idempotencyKey(idempotencyKey(type, reservation, flightId))
+                .type(type)
+                .reservationId(reservation.getId())
+                .reservationCode(reservation.getReservationCode())
+                .flightId(flightId)
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Builds the idempotency key: reservation code, notification type and what the notification is about
+     * (the recipient for confirmations, the target flight for flight changes).
+     */
+    private String idempotencyKey(NotificationType type, Reservation reservation, Long flightId) {
+        String subject = type == NotificationType.FLIGHT_CHANGE
+                ? String.valueOf(flightId)
+                : String.valueOf(reservation.getPassengerEmail()).toLowerCase(Locale.ROOT);
+        return reservation.getReservationCode() + ":" + type + ":" + subject;
+    }
+}
@@ -0,0 +1,133 @@
+package org.yashas.AirlineManagement.service.implementations;
+
+import org.yashas.AirlineManagement.service.interfaces.ReservationCodeGenerator;
+import org.yashas.AirlineManagement.util.code.FeistelPermutation;
+import org.yashas.AirlineManagement.util.constant.MetricNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import lombok.extern.slf4j.Slf4j;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Reservation codes that are unique by construction.
+ * <p>
+ * Codes come from a counter whose values are reserved in blocks from {@code sequence_block}, so
+ * instances sharing the database never receive the same value and most codes cost no database access.
+ * Each value is passed through a keyed Feistel permutation of the 62^6 six-character space and
+ * written in base 62, so consecutive bookings get unrelated-looking codes. The permutation is a
+ * bijection, hence distinct counter values always give distinct codes.
+ * <p>
+ * {@code reservation.code.key} selects the permutation and must not change once codes have been
+ * issued, otherwise new codes may repeat old ones. It is a secret, supplied through
+ * {@code RESERVATION_CODE_KEY}. Without it the codes fall back to the development key 0, except in
+ * the prod profile, which refuses to start.
+ */
+@Service
+@ConditionalOnProperty(name = "reservation.code.generator", havingValue = "permuted", matchIfMissing = true)
+@Slf4j
+public class PermutedSequenceCodeGenerator implements ReservationCodeGenerator {
+
+    static final String SEQUENCE_NAME = "reservation_code";
+
+    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int CODE_LENGTH = 6;
+    private static final long HALF_DOMAIN = 62L * 62 * 62;
+    private static final int ROUNDS = 6;
+
+    private final SequenceBlockAllocator blockAllocator;
+    private final FeistelPermutation permutation;
+    private final int blockSize;
+    private final Counter blockAllocations;
+    private final Counter allocationRetries;
+
+    // Guards next and limit. Not a monitor: block allocation runs a database transaction while holding it,
+    // which would pin a virtual thread to its carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private long next;
+    private long limit;
+
+    public PermutedSequenceCodeGenerator(SequenceBlockAllocator blockAllocator,
+                                         @Value("${reservation.code.key:0}") long key,
+                                         @Value("${reservation.code.block-size:1000}") int blockSize,
+                                         MeterRegistry meterRegistry) {
+        if (key == 0) {
+            log.warn("reservation.code.key is not set; using the development key. Set RESERVATION_CODE_KEY outside local development.");
+        }
+        this.blockAllocator = blockAllocator;
+        this.permutation = new FeistelPermutation(HALF_DOMAIN, ROUNDS, key);
+        this.blockSize = Math.max(1, blockSize);
+        this.blockAllocations = meterRegistry.counter(MetricNames.CODE_BLOCK_ALLOCATIONS);
+        this.allocationRetries = meterRegistry.counter(MetricNames.CODE_RETRIES, "generator", "permuted");
+    }
+
+    @Override
+    public String nextCode() {
+        return encode(permutation.permute(take(1).start()));
+    }
+
+    @Override
+    public List<String> nextCodes(int count) {
+        List<String> codes = new ArrayList<>(count);
+        while (codes.size() < count) {
+            Range range = take(count - codes.size());
+            for (long value = range.start(); value < range.end(); value++) {
+                codes.add(encode(permutation.permute(value)));
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * Takes up to {@code count} values from the current block, allocating a new block if it is used up.
+     * Large requests get a block of their own size so a bulk import needs a single allocation.
+     */
+    private Range take(int count) {
+        lock.lock();
+        try {
+            if (next == limit) {
+                int size = Math.max(blockSize, count);
+                long start = allocate(size);
+                if (start + size > permutation.domainSize()) {
+                    throw new IllegalStateException("Reservation code space is exhausted");
+                }
+                next = start;
+                limit = start + size;
+            }
+            long start = next;
+            next = Math.min(limit, next + count);
+            return new Range(start, next);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long allocate(int size) {
+        blockAllocations.increment();
+        try {
+            return blockAllocator.allocate(SEQUENCE_NAME, size);
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created the counter row at the same time; it exists now
+            log.debug("Concurrent creation of sequence '{}', retrying allocation", SEQUENCE_NAME);
+            allocationRetries.increment();
+            return blockAllocator.allocate(SEQUENCE_NAME, size);
+        }
+    }
+
+    private static String encode(long value) {
+        char[] code = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = ALPHABET.charAt((int) (value % 62));
+            value /= 62;
+        }
+        return new String(code);
+    }
+
+    private record Range(long start, long end) {
+    }
+}
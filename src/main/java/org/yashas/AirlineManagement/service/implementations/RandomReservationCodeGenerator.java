@@ -0,0 +1,73 @@
+package org.yashas.AirlineManagement.service.implementations;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.yashas.AirlineManagement.repository.ReservationRepository;
+import org.yashas.AirlineManagement.service.interfaces.ReservationCodeGenerator;
+import org.yashas.AirlineManagement.util.constant.MetricNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import lombok.RequiredArgsConstructor;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Random six-character codes checked against the reservation table.
+ * Kept as an alternative to {@link PermutedSequenceCodeGenerator} ({@code reservation.code.generator=random});
+ * every code costs a lookup and retries grow as the code space fills up.
+ */
+@Service
+@ConditionalOnProperty(name = "reservation.code.generator", havingValue = "random")
+@RequiredArgsConstructor
+public class RandomReservationCodeGenerator implements ReservationCodeGenerator {
+
+    private static final int CODE_LOOKUP_CHUNK = 1000;
+
+    private final ReservationRepository reservationRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public String nextCode() {
+        String reservationCode = RandomStringUtils.randomAlphanumeric(6);
+        while (reservationRepository.existsByReservationCode(reservationCode)) {
+            retries().increment();
+            reservationCode = RandomStringUtils.randomAlphanumeric(6);
+        }
+        return reservationCode;
+    }
+
+    /**
+     * Checks candidates against the table in chunks instead of one query per code.
+     */
+    @Override
+    public List<String> nextCodes(int count) {
+        Set<String> codes = new LinkedHashSet<>(count * 2);
+        while (codes.size() < count) {
+            Set<String> candidates = new HashSet<>();
+            while (candidates.size() < count - codes.size()) {
+                String candidate = RandomStringUtils.randomAlphanumeric(6);
+                if (!codes.contains(candidate)) {
+                    candidates.add(candidate);
+                }
+            }
+            List<String> batch = new ArrayList<>(candidates);
+            for (int from = 0; from < batch.size(); from += CODE_LOOKUP_CHUNK) {
+                candidates.removeAll(reservationRepository.findExistingReservationCodes(
+                        batch.subList(from, Math.min(from + CODE_LOOKUP_CHUNK, batch.size()))));
+            }
+            if (candidates.size() < batch.size()) {
+                retries().increment(batch.size() - candidates.size());
+            }
+            codes.addAll(candidates);
+        }
+        return new ArrayList<>(codes);
+    }
+
+    private Counter retries() {
+        return meterRegistry.counter(MetricNames.CODE_RETRIES, "generator", "random");
+    }
+}
@@ -0,0 +1,211 @@
+package org.yashas.AirlineManagement.service.implementations;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.yashas.AirlineManagement.exception.entityrelated.NoFlightsMatchingCriteriaException;
+import org.yashas.AirlineManagement.payload.flight.FlightAvailabilityDTO;
+import org.yashas.AirlineManagement.payload.flight.FlightFilterRequestDTO;
+import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
+import org.yashas.AirlineManagement.service.interfaces.ReactiveFlightService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Read-only flight search and availability over R2DBC, for the non-blocking API under {@code /reactive/flights}.
+ * <p>
+ * Rows are fetched as the client consumes them: results are emitted on demand from a small pool of
+ * {@code reactive.r2dbc.pool-size} connections, so a large or slow search neither holds a request thread
+ * nor buffers its results. Searches use the same {@link FlightFilterRequestDTO} criteria as
+ * {@code POST /flights/filter} and carry the seats left, read from the seat counters in the same query.
+ * <p>
+ * The connection comes from {@code reactive.r2dbc.url}, or, if that is not set, from the H2 database of
+ * {@code spring.datasource.url}. The embedded H2 driver runs statements on the subscribing thread, so H2
+ * queries are moved to the bounded elastic scheduler; network drivers such as PostgreSQL's need no thread at all.
+ * The pool is not a bean, so the JPA transaction manager stays the only one.
+ */
+@Service
+@Slf4j
+public class ReactiveFlightServiceImpl implements ReactiveFlightService {
+
+    private static final String H2_JDBC_PREFIX = "jdbc:h2:";
+    private static final String H2_R2DBC_PREFIX = "r2dbc:h2:";
+
+    private static final String SELECT_FLIGHTS = "select f.flight_id, f.flight_number, f.departure, f.destination, "
+            + "f.departure_time, f.arrival_time, f.airplane_id, i.capacity, i.seats_booked "
+            + "from flight f left join flight_inventory i on i.flight_id = f.flight_id";
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+    private final Scheduler queryScheduler;
+
+    public ReactiveFlightServiceImpl(@Value("${reactive.r2dbc.url:}") String r2dbcUrl,
+                                     @Value("${reactive.r2dbc.username:${spring.datasource.username:}}") String username,
+                                     @Value("${reactive.r2dbc.password:${spring.datasource.password:}}") String password,
+                                     @Value("${spring.datasource.url:}") String jdbcUrl,
+                                     @Value("${reactive.r2dbc.pool-size:10}") int poolSize,
+                                     @Value("${reactive.r2dbc.acquire-timeout-ms:3000}") long acquireTimeoutMs) {
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(
+                        connectionFactory(r2dbcUrl, jdbcUrl, username, password))
+                .name("airline-r2dbc")
+                .initialSize(0)
+                .maxSize(Math.max(1, poolSize))
+                .maxAcquireTime(Duration.ofMillis(acquireTimeoutMs))
+                .maxIdleTime(Duration.ofMinutes(30))
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        boolean embedded = r2dbcUrl.isBlank() || r2dbcUrl.startsWith(H2_R2DBC_PREFIX);
+        this.queryScheduler = embedded ? Schedulers.boundedElastic() : Schedulers.immediate();
+    }
+
+    @PreDestroy
+    void close() {
+        connectionPool.dispose();
+    }
+
+    /**
+     * Streams all flights in ID order.
+     *
+     * @param after ID of the last flight the client already has, to resume after it; null to start at the first
+     * @return the flights with the seats left on each
+     */
+    @Override
+    public Flux<FlightResponseDTO> streamFlights(Long after) {
+        DatabaseClient.GenericExecuteSpec query = after == null
+                ? databaseClient.sql(SELECT_FLIGHTS + " order by f.flight_id")
+                : databaseClient.sql(SELECT_FLIGHTS + " where f.flight_id > :after order by f.flight_id").bind("after", after);
+        return query.map(ReactiveFlightServiceImpl::toFlight)
+                .all()
+                .subscribeOn(queryScheduler);
+    }
+
+    /**
+     * Streams the flights matching the filter, by departure time. Criteria left null are not applied.
+     *
+     * @param filter departure and arrival locations and dates, as for {@code POST /flights/filter}
+     * @return the matching flights with the seats left on each
+     * @throws NoFlightsMatchingCriteriaException if no flight matches, signalled before any flight is emitted
+     */
+    @Override
+    public Flux<FlightResponseDTO> searchFlights(FlightFilterRequestDTO filter) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (filter.getDepartureLocation() != null) {
+            conditions.add("f.departure = :departure");
+            parameters.put("departure", filter.getDepartureLocation());
+        }
+        if (filter.getArrivalLocation() != null) {
+            conditions.add("f.destination = :destination");
+            parameters.put("destination", filter.getArrivalLocation());
+        }
+        if (filter.getDepartureDate() != null) {
+            conditions.add("f.departure_time between :departureFrom and :departureTo");
+            parameters.put("departureFrom", filter.getDepartureDate().atStartOfDay());
+            parameters.put("departureTo", filter.getDepartureDate().atTime(23, 59, 59));
+        }
+        if (filter.getArrivalDate() != null) {
+            conditions.add("f.arrival_time <= :arrivalTo");
+            parameters.put("arrivalTo", filter.getArrivalDate().atTime(23, 59, 59));
+        }
+
+        String sql = SELECT_FLIGHTS
+                + (conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions))
+                + " order by f.departure_time, f.flight_id";
+        DatabaseClient.GenericExecuteSpec query = databaseClient.sql(sql);
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            query = query.bind(parameter.getKey(), parameter.getValue());
+        }
+        return query.map(ReactiveFlightServiceImpl::toFlight)
+                .all()
+                .subscribeOn(queryScheduler)
+                .switchIfEmpty(Flux.defer(() -> Flux.error(new NoFlightsMatchingCriteriaException())));
+    }
+
+    /**
+     * Reads the seat counters of the given flights in one query.
+     *
+     * @param flightIds IDs of the flights; duplicates are ignored
+     * @return availability of each existing flight, in the order requested; unknown IDs are left out
+     */
+    @Override
+    public Flux<FlightAvailabilityDTO> getFlightAvailability(List<Long> flightIds) {
+        List<Long> ids = flightIds.stream().distinct().toList();
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql("select flight_id, capacity, seats_booked from flight_inventory where flight_id in (:ids)")
+                .bind("ids", ids)
+                .map(row -> {
+                    int capacity = row.get("capacity", Integer.class);
+                    int seatsBooked = row.get("seats_booked", Integer.class);
+                    return new FlightAvailabilityDTO(row.get("flight_id", Long.class), capacity, seatsBooked,
+                            Math.max(0, capacity - seatsBooked));
+                })
+                .all()
+                .subscribeOn(queryScheduler)
+                .collectMap(FlightAvailabilityDTO::getFlightId)
+                .flatMapIterable(availability -> ids.stream()
+                        .map(availability::get)
+                        .filter(Objects::nonNull)
+                        .toList());
+    }
+
+    private static FlightResponseDTO toFlight(Readable row) {
+        FlightResponseDTO flight = new FlightResponseDTO(
+                row.get("flight_id", Long.class),
+                row.get("flight_number", String.class),
+                row.get("departure", String.class),
+                row.get("destination", String.class),
+                row.get("departure_time", LocalDateTime.class),
+                row.get("arrival_time", LocalDateTime.class),
+                row.get("airplane_id", Long.class));
+        Integer capacity = row.get("capacity", Integer.class);
+        Integer seatsBooked = row.get("seats_booked", Integer.class);
+        if (capacity != null && seatsBooked != null) {
+            flight.setSeatsRemaining(Math.max(0, capacity - seatsBooked));
+        }
+        return flight;
+    }
+
+    private static ConnectionFactory connectionFactory(String r2dbcUrl, String jdbcUrl, String username, String password) {
+        if (!r2dbcUrl.isBlank()) {
+            ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(r2dbcUrl).mutate();
+            if (!username.isBlank()) {
+                options.option(ConnectionFactoryOptions.USER, username);
+            }
+            if (!password.isEmpty()) {
+                options.option(ConnectionFactoryOptions.PASSWORD, password);
+            }
+            return ConnectionFactories.get(options.build());
+        }
+        if (jdbcUrl.startsWith(H2_JDBC_PREFIX)) {
+            // Same in-process database as the JDBC pool
+            log.info("Reactive flight API reading from the H2 database of spring.datasource.url.");
+            return new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                    .url(jdbcUrl.substring(H2_JDBC_PREFIX.length()))
+                    .username(username)
+                    .password(password)
+                    .build());
+        }
+        throw new IllegalStateException("Set reactive.r2dbc.url to serve the reactive flight API; "
+                + "only an H2 spring.datasource.url can be reused for it");
+    }
+}
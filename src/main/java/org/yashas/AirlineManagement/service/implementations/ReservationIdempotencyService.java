@@ -0,0 +1,236 @@
+package org.yashas.AirlineManagement.service.implementations;
+
+import org.yashas.AirlineManagement.exception.state.IdempotencyKeyReusedException;
+import org.yashas.AirlineManagement.exception.state.InvalidIdempotencyKeyException;
+import org.yashas.AirlineManagement.model.IdempotencyRecord;
+import org.yashas.AirlineManagement.payload.reservation.ReservationRequestDTO;
+import org.yashas.AirlineManagement.payload.reservation.ReservationResponseDTO;
+import org.yashas.AirlineManagement.repository.IdempotencyRecordRepository;
+import org.yashas.AirlineManagement.service.interfaces.ReservationService;
+import org.yashas.AirlineManagement.util.concurrent.SingleFlight;
+import org.yashas.AirlineManagement.util.constant.MetricNames;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import lombok.extern.slf4j.Slf4j;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+/**
+ * Creates reservations at most once per {@code Idempotency-Key}, so a client retrying
+ * {@code POST /reservations} after a timeout gets the original reservation back instead of a second one.
+ * <p>
+ * The response of each keyed request is stored in {@code idempotency_record} in the transaction that creates
+ * the reservation, and kept for {@code reservation.idempotency.ttl-hours}. The most recent
+ * {@code reservation.idempotency.cache-size} responses are also cached in memory, so most retries are answered
+ * without a query; the others need a single lookup of the key. Neither touches the flight or reservation tables.
+ * <p>
+ * Duplicates arriving while the first request is still running wait for it through a {@link SingleFlight}
+ * and share its outcome, errors included. A failed request stores nothing, so its key may be retried. Duplicates sent to two instances at
+ * once are settled by the table's primary key: the loser's transaction, reservation included, rolls back and it
+ * answers with the winner's response. A key sent again with a different body is rejected.
+ */
+@Service
+@Slf4j
+public class ReservationIdempotencyService {
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final ReservationService reservationService;
+    private final IdempotencyRecordRepository recordRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final Cache<String, StoredResponse> responses;
+    private final SingleFlight<String, Execution> executions;
+
+    public ReservationIdempotencyService(ReservationService reservationService,
+                                         IdempotencyRecordRepository recordRepository,
+                                         EntityManager entityManager,
+                                         ObjectMapper objectMapper,
+                                         PlatformTransactionManager transactionManager,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${reservation.idempotency.ttl-hours:24}") long ttlHours,
+                                         @Value("${reservation.idempotency.cache-size:10000}") long cacheSize) {
+        this.reservationService = reservationService;
+        this.recordRepository = recordRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.ttl = Duration.ofHours(Math.max(1, ttlHours));
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(Math.max(0, cacheSize))
+                .expireAfterWrite(ttl)
+                .build();
+        this.executions = new SingleFlight<>("reservation-idempotency", meterRegistry);
+    }
+
+    /**
+     * Outcome of a keyed reservation request.
+     *
+     * @param reservation the reservation created for the key
+     * @param replayed whether it was created by an earlier request with the same key
+     */
+    public record Outcome(ReservationResponseDTO reservation, boolean replayed) {
+    }
+
+    private record StoredResponse(String requestHash, ReservationResponseDTO reservation) {
+    }
+
+    /**
+     * Result of running a keyed request.
+     *
+     * @param replaySource where an earlier request's response was found, or null if this request created the reservation
+     */
+    private record Execution(StoredResponse stored, String replaySource) {
+    }
+
+    /**
+     * Creates the reservation unless a request with the same key already did.
+     *
+     * @param key the client's idempotency key
+     * @param reservationDTO reservation details for creation
+     * @return the reservation, and whether it was created by an earlier request
+     * @throws InvalidIdempotencyKeyException if the key is blank or too long
+     * @throws IdempotencyKeyReusedException if the key was used for a request with a different body
+     */
+    public Outcome createReservation(String key, ReservationRequestDTO reservationDTO) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(MAX_KEY_LENGTH);
+        }
+        String requestHash = hash(reservationDTO);
+
+        StoredResponse cached = responses.getIfPresent(key);
+        if (cached != null) {
+            return replay(key, cached, requestHash, "memory");
+        }
+
+        SingleFlight.Result<Execution> result = executions.execute(key, () -> execute(key, reservationDTO, requestHash));
+        Execution execution = result.value();
+        if (result.shared()) {
+            return replay(key, execution.stored(), requestHash, "coalesced");
+        }
+        return execution.replaySource() != null
+                ? replay(key, execution.stored(), requestHash, execution.replaySource())
+                : new Outcome(execution.stored().reservation(), false);
+    }
+
+    /**
+     * Removes stored responses whose retention has passed.
+     */
+    @Scheduled(fixedDelayString = "${reservation.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int purged = recordRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency records.", purged);
+        }
+    }
+
+    /**
+     * Answers the key from its stored record, or creates the reservation. Runs once for concurrent duplicates.
+     */
+    private Execution execute(String key, ReservationRequestDTO reservationDTO, String requestHash) {
+        IdempotencyRecord record = recordRepository.findById(key).orElse(null);
+        boolean expired = record != null && record.getExpiresAt().isBefore(LocalDateTime.now());
+        Execution execution;
+        if (record != null && !expired) {
+            execution = new Execution(toStoredResponse(record), "database");
+        } else {
+            try {
+                execution = new Execution(create(key, reservationDTO, requestHash, expired), null);
+            } catch (DataIntegrityViolationException | PersistenceException e) {
+                // Another instance committed the same key first; this transaction rolled back
+                IdempotencyRecord winner = recordRepository.findById(key).orElse(null);
+                if (winner == null) {
+                    throw e;
+                }
+                execution = new Execution(toStoredResponse(winner), "database");
+            }
+        }
+        responses.put(key, execution.stored());
+        return execution;
+    }
+
+    private StoredResponse create(String key, ReservationRequestDTO reservationDTO, String requestHash, boolean replaceExpired) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (replaceExpired) {
+                recordRepository.deleteIfExpired(key, now);
+            }
+            ReservationResponseDTO reservation = reservationService.createReservation(reservationDTO);
+            entityManager.persist(IdempotencyRecord.builder()
+                    .key(key)
+                    .requestHash(requestHash)
+                    .reservationId(reservation.getId())
+                    .responseBody(toJson(reservation))
+                    .createdAt(now)
+                    .expiresAt(now.plus(ttl))
+                    .build());
+            entityManager.flush();
+            return new StoredResponse(requestHash, reservation);
+        });
+    }
+
+    private Outcome replay(String key, StoredResponse stored, String requestHash, String source) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReusedException(key);
+        }
+        replays(source).increment();
+        log.debug("Replaying reservation {} for idempotency key '{}' ({}).", stored.reservation().getId(), key, source);
+        return new Outcome(stored.reservation(), true);
+    }
+
+    private StoredResponse toStoredResponse(IdempotencyRecord record) {
+        try {
+            return new StoredResponse(record.getRequestHash(),
+                    objectMapper.readValue(record.getResponseBody(), ReservationResponseDTO.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable stored response for idempotency key '" + record.getKey() + "'", e);
+        }
+    }
+
+    private String toJson(ReservationResponseDTO reservation) {
+        try {
+            return objectMapper.writeValueAsString(reservation);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize reservation " + reservation.getId(), e);
+        }
+    }
+
+    private static String hash(ReservationRequestDTO reservationDTO) {
+        String canonical = reservationDTO.getPassengerName() + '\n'
+                + reservationDTO.getPassengerEmail() + '\n'
+                + reservationDTO.getFlightId();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private Counter replays(String source) {
+        return Counter.builder(MetricNames.IDEMPOTENT_REPLAYS)
+                .description("Reservation requests answered with the response stored for their idempotency key")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
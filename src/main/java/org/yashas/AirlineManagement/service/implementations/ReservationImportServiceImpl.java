@@ -0,0 +1,174 @@
+package org.yashas.AirlineManagement.service.implementations;
+
+import org.yashas.AirlineManagement.exception.entityrelated.FlightNotFoundException;
+import org.yashas.AirlineManagement.exception.state.FlightFullyBookedException;
+import org.yashas.AirlineManagement.exception.state.InvalidBulkImportException;
+import org.yashas.AirlineManagement.model.Flight;
+import org.yashas.AirlineManagement.model.Reservation;
+import org.yashas.AirlineManagement.payload.reservation.BulkReservationResponseDTO;
+import org.yashas.AirlineManagement.payload.reservation.ReservationRequestDTO;
+import org.yashas.AirlineManagement.repository.FlightRepository;
+import org.yashas.AirlineManagement.service.interfaces.ReservationCodeGenerator;
+import org.yashas.AirlineManagement.service.interfaces.ReservationImportService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Imports many reservations in one transaction, all or nothing.
+ * <p>
+ * Instead of repeating the single-booking path per row, the import validates every row up front,
+ * takes the seats for each flight with one conditional inventory update, takes all reservation
+ * codes from the code generator at once, and persists reservations and their outbox entries in chunks of
+ * {@code hibernate.jdbc.batch_size}. Each chunk is flushed as JDBC batches (inserts are ordered by
+ * entity) and then cleared from the persistence context, so memory use stays bounded.
+ * Confirmation emails are queued through the outbox and sent by the relay in batches.
+ */
+@Service
+@Slf4j
+public class ReservationImportServiceImpl implements ReservationImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    private final FlightRepository flightRepository;
+    private final ReservationCodeGenerator reservationCodeGenerator;
+    private final SeatInventoryService seatInventoryService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final int batchSize;
+    private final int maxRows;
+
+    public ReservationImportServiceImpl(FlightRepository flightRepository,
+                                        ReservationCodeGenerator reservationCodeGenerator,
+                                        SeatInventoryService seatInventoryService,
+                                        NotificationOutboxService notificationOutboxService,
+                                        EntityManager entityManager,
+                                        Validator validator,
+                                        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize,
+                                        @Value("${reservation.bulk.max-rows:100000}") int maxRows) {
+        this.flightRepository = flightRepository;
+        this.reservationCodeGenerator = reservationCodeGenerator;
+        this.seatInventoryService = seatInventoryService;
+        this.notificationOutboxService = notificationOutboxService;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Imports the given reservations.
+     *
+     * @param reservations reservation rows; every row must pass the same validation as POST /reservations
+     * @return number of reservations created per flight
+     * @throws InvalidBulkImportException if the input is empty, too large or contains invalid rows
+     * @throws FlightNotFoundException if a referenced flight does not exist
+     * @throws FlightFullyBookedException if a flight has fewer seats left than rows referencing it
+     */
+    @Override
+    @Transactional
+    public BulkReservationResponseDTO importReservations(List<ReservationRequestDTO> reservations) {
+        long start = System.nanoTime();
+        validate(reservations);
+
+        // Ascending flight order, so concurrent imports lock inventory rows in the same order
+        Map<Long, Integer> seatsPerFlight = reservations.stream()
+                .collect(Collectors.groupingBy(ReservationRequestDTO::getFlightId, TreeMap::new, Collectors.summingInt(row -> 1)));
+        requireFlights(seatsPerFlight.keySet());
+        seatsPerFlight.forEach(seatInventoryService::reserveSeats);
+
+        List<String> codes = reservationCodeGenerator.nextCodes(reservations.size());
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Reservation> chunk = new ArrayList<>(batchSize);
+        for (int i = 0; i < reservations.size(); i++) {
+            ReservationRequestDTO row = reservations.get(i);
+            Reservation reservation = Reservation.builder()
+                    .passengerName(row.getPassengerName())
+                    .passengerEmail(row.getPassengerEmail())
+                    .reservationCode(codes.get(i))
+                    .status(true)
+                    .createdAt(createdAt)
+                    .flight(entityManager.getReference(Flight.class, row.getFlightId()))
+                    .build();
+            entityManager.persist(reservation);
+            chunk.add(reservation);
+            if (chunk.size() == batchSize) {
+                flushChunk(chunk);
+            }
+        }
+        flushChunk(chunk);
+
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("Imported {} reservations on {} flights in {} ms", reservations.size(), seatsPerFlight.size(), durationMillis);
+
+        return new BulkReservationResponseDTO(reservations.size(), seatsPerFlight, durationMillis);
+    }
+
+    private void validate(List<ReservationRequestDTO> reservations) {
+        if (reservations == null || reservations.isEmpty()) {
+            throw new InvalidBulkImportException("No reservations to import.");
+        }
+        if (reservations.size() > maxRows) {
+            throw new InvalidBulkImportException("A bulk import can contain at most " + maxRows + " reservations.");
+        }
+
+        List<String> errors = new ArrayList<>();
+        int invalidRows = 0;
+        for (int i = 0; i < reservations.size(); i++) {
+            ReservationRequestDTO row = reservations.get(i);
+            if (row == null) {
+                invalidRows++;
+                errors.add("row " + (i + 1) + ": empty");
+                continue;
+            }
+            Set<ConstraintViolation<ReservationRequestDTO>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                invalidRows++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    int rowNumber = i + 1;
+                    violations.forEach(violation -> errors.add(
+                            "row " + rowNumber + ": " + violation.getPropertyPath() + ": " + violation.getMessage()));
+                }
+            }
+        }
+        if (invalidRows > 0) {
+            throw new InvalidBulkImportException(invalidRows + " invalid row(s): "
+                    + String.join(", ", errors.subList(0, Math.min(errors.size(), MAX_REPORTED_ERRORS))));
+        }
+    }
+
+    private void requireFlights(Set<Long> flightIds) {
+        Set<Long> found = flightRepository.findAllById(flightIds).stream()
+                .map(Flight::getId)
+                .collect(Collectors.toSet());
+        flightIds.stream()
+                .filter(flightId -> !found.contains(flightId))
+                .findFirst()
+                .ifPresent(flightId -> {
+                    throw new FlightNotFoundException(flightId);
+                });
+    }
+
+    private void flushChunk(List<Reservation> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        notificationOutboxService.recordNewReservations(chunk);
+        entityManager.flush();
+        entityManager.clear();
+        chunk.clear();
+    }
+}
@@ -1,31 +1,40 @@
 package org.yashas.AirlineManagement.service.implementations;
 
-import org.apache.commons.lang3.RandomStringUtils;
+import org.yashas.AirlineManagement.event.ReservationChangedEvent;
 import org.yashas.AirlineManagement.exception.entityrelated.FlightNotFoundException;
 import org.yashas.AirlineManagement.exception.entityrelated.ReservationNotFoundException;
+import org.yashas.AirlineManagement.exception.state.ConcurrentUpdateConflictException;
 import org.yashas.AirlineManagement.exception.state.FlightFullyBookedException;
 import org.yashas.AirlineManagement.exception.state.NoChangesMadeException;
 import org.yashas.AirlineManagement.mapper.ReservationMapper;
 import org.yashas.AirlineManagement.model.Flight;
 import org.yashas.AirlineManagement.model.Reservation;
+import org.yashas.AirlineManagement.payload.common.CursorPage;
 import org.yashas.AirlineManagement.payload.reservation.PartialReservationRequestDTO;
 import org.yashas.AirlineManagement.payload.reservation.ReservationRequestDTO;
 import org.yashas.AirlineManagement.payload.reservation.ReservationResponseDTO;
 import org.yashas.AirlineManagement.repository.FlightRepository;
+import org.yashas.AirlineManagement.repository.ReservationArchiveRepository;
 import org.yashas.AirlineManagement.repository.ReservationRepository;
+import org.yashas.AirlineManagement.service.interfaces.ReservationCodeGenerator;
 import org.yashas.AirlineManagement.service.interfaces.ReservationService;
+import org.yashas.AirlineManagement.util.constant.MetricNames;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import java.lang.reflect.Field;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = MetricNames.SERVICE, histogram = true)
 @RequiredArgsConstructor
 @Slf4j
 public class ReservationServiceImpl implements ReservationService {
@@ -33,24 +42,46 @@ public class ReservationServiceImpl implements ReservationService {
     private final ReservationRepository reservationRepository;
     private final FlightRepository flightRepository;
     private final ReservationMapper reservationMapper;
-    private final ReservationEmailService emailService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final SeatInventoryService seatInventoryService;
+    private final ReservationCodeGenerator reservationCodeGenerator;
+    private final ConflictRetryExecutor conflictRetryExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationArchiveRepository reservationArchiveRepository;
 
     /**
-     * Retrieves a list of all reservations as DTOs.   
+     * Retrieves one page of reservations ordered by ID, starting after the given cursor.
      * 
-     * @return list of reservation response DTOs, or an empty list if none are found
+     * @param after ID of the last reservation of the previous page, or null for the first page
+     * @param limit maximum number of reservations to return
+     * @return page of reservation response DTOs with the cursor of the next page, if any
      */
     @Override
     @Transactional(readOnly = true)
-    public List<ReservationResponseDTO> getAllReservations() {
-        return reservationRepository.findAll()
-                .stream()
-                .map(reservationMapper::toResponse)
-                .collect(Collectors.toList());
+    public CursorPage<ReservationResponseDTO> getAllReservations(Long after, int limit) {
+        List<ReservationResponseDTO> reservations =
+                reservationRepository.findResponsesAfter(after != null ? after : 0L, Limit.of(limit + 1));
+        return CursorPage.of(reservations, limit, ReservationResponseDTO::getId);
+    }
+
+    /**
+     * Passes every reservation, ordered by ID, to the consumer one at a time.
+     * Reservations are read over a single database cursor straight into DTOs,
+     * so memory use does not grow with the number of reservations.
+     * 
+     * @param consumer receives each reservation response DTO
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllReservations(Consumer<ReservationResponseDTO> consumer) {
+        try (Stream<ReservationResponseDTO> reservations = reservationRepository.streamAllResponses()) {
+            reservations.forEach(consumer);
+        }
     }
 
     /**
      * Retrieves a spesific reservation by its unique ID.
+     * Reservations of archived flights are read from the archive.
      *
      * @param id ID of the reservation to retrieve
      * @return reservation response DTO corresponding to the given ID
@@ -61,26 +92,44 @@ public class ReservationServiceImpl implements ReservationService {
     public ReservationResponseDTO getReservationById(Long id) {
         return reservationRepository.findById(id)
                 .map(reservationMapper::toResponse)
+                .or(() -> reservationArchiveRepository.findById(id).map(reservationMapper::toResponse))
                 .orElseThrow(() -> new ReservationNotFoundException(id));
     }
 
     /**
-     * Retrieves a list of reservations associated with a specific flight ID.
+     * Retrieves one page of the reservations associated with a specific flight ID.
      *
      * @param flightId the ID of the flight
-     * @return list of reservations as ReservationResponseDTO assigned to the specified flight
+     * @param after ID of the last reservation of the previous page, or null for the first page
+     * @param limit maximum number of reservations to return
+     * @return page of reservations as ReservationResponseDTO assigned to the specified flight
      * @throws FlightNotFoundException if no flight with the given ID is found
      */
     @Override
     @Transactional(readOnly = true)
-    public List<ReservationResponseDTO> getReservationsByFlightId(Long flightId) {
-        Flight flight = flightRepository.findById(flightId)
-                .orElseThrow(() -> new FlightNotFoundException(flightId));
+    public CursorPage<ReservationResponseDTO> getReservationsByFlightId(Long flightId, Long after, int limit) {
+        if (!flightRepository.existsById(flightId)) {
+            throw new FlightNotFoundException(flightId);
+        }
 
-        List<Reservation> reservations = reservationRepository.findByFlightId(flight.getId());
-        return reservations.stream()
-                .map(reservationMapper::toResponse)
-                .collect(Collectors.toList());
+        List<ReservationResponseDTO> reservations = reservationRepository
+                .findResponsesByFlightIdAfter(flightId, after != null ? after : 0L, Limit.of(limit + 1));
+        return CursorPage.of(reservations, limit, ReservationResponseDTO::getId);
+    }
+
+    /**
+     * Passes every reservation of a specific flight, ordered by ID, to the consumer one at a time.
+     * The caller is expected to have checked that the flight exists before the response is committed.
+     *
+     * @param flightId the ID of the flight
+     * @param consumer receives each reservation response DTO
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamReservationsByFlightId(Long flightId, Consumer<ReservationResponseDTO> consumer) {
+        try (Stream<ReservationResponseDTO> reservations = reservationRepository.streamResponsesByFlightId(flightId)) {
+            reservations.forEach(consumer);
+        }
     }
 
     /**
@@ -94,37 +143,52 @@ public class ReservationServiceImpl implements ReservationService {
     @Override
     @Transactional
     public ReservationResponseDTO createReservation(ReservationRequestDTO reservationDTO) {
+        // Taking the seat also proves the flight exists, so the flight row itself is never read:
+        // every booking of a popular flight would otherwise select the same row again
+        seatInventoryService.reserveSeat(reservationDTO.getFlightId());
+        Flight flight = flightRepository.getReferenceById(reservationDTO.getFlightId());
+
+        return bookReservation(reservationDTO, flight);
+    }
+
+    /**
+     * Creates a reservation for a seat that was already taken from the flight inventory by a seat hold.
+     *
+     * @param reservationDTO reservation details for creation
+     * @return the created reservation response DTO
+     * @throws FlightNotFoundException if the associated flight is not found
+     */
+    @Override
+    @Transactional
+    public ReservationResponseDTO createReservationForHeldSeat(ReservationRequestDTO reservationDTO) {
         Flight flight = flightRepository.findById(reservationDTO.getFlightId())
                 .orElseThrow(() -> new FlightNotFoundException(reservationDTO.getFlightId()));
-        
-        checkFlightCapacity(flight);
 
-        String reservationCode = createReservationCode();
+        return bookReservation(reservationDTO, flight);
+    }
+
+    /**
+     * Persists a reservation on a seat that has already been taken, and records its confirmation email.
+     *
+     * @param reservationDTO reservation details for creation
+     * @param flight the associated flight
+     * @return the created reservation response DTO
+     */
+    private ReservationResponseDTO bookReservation(ReservationRequestDTO reservationDTO, Flight flight) {
+        String reservationCode = reservationCodeGenerator.nextCode();
     
         Reservation reservation = createReservationEntity(reservationDTO, flight, reservationCode);
         Reservation savedReservation = reservationRepository.save(reservation);
         ReservationResponseDTO responseDTO = reservationMapper.toResponse(savedReservation);
     
-        emailService.sendConfirmationEmail(responseDTO);
+        notificationOutboxService.recordNewReservation(savedReservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.created(savedReservation.getId(), flight.getId()));
 
         log.info("Created new reservation with code: {}", reservationCode);
  
         return responseDTO;
     }
 
-    /**
-     * Generates a unique alphanumeric reservation code.
-     *
-     * @return a unique 6-character reservation code
-     */
-    private String createReservationCode() {
-        String reservationCode;
-        do {
-            reservationCode = RandomStringUtils.randomAlphanumeric(6);
-        } while (reservationRepository.existsByReservationCode(reservationCode));
-        return reservationCode;
-    }
-
     /**
      * Creates a reservation entity from a request DTO.
      *
@@ -150,15 +214,20 @@ public class ReservationServiceImpl implements ReservationService {
      * @return updated reservation as a response DTO
      * @throws ReservationNotFoundException if the reservation with the given ID is not found
      * @throws NoChangesMadeException if no changes are applied to the reservation
+     * @throws ConcurrentUpdateConflictException if concurrent updates of the reservation kept winning the race
      */
     @Override
-    @Transactional
     public ReservationResponseDTO partialUpdateReservation(Long id, PartialReservationRequestDTO reservationDTO) {
+        return conflictRetryExecutor.execute("reservation", id, () -> applyPartialUpdate(id, reservationDTO));
+    }
+
+    private ReservationResponseDTO applyPartialUpdate(Long id, PartialReservationRequestDTO reservationDTO) {
         Reservation existingReservation = reservationRepository.findById(id)
                 .orElseThrow(() -> new ReservationNotFoundException(id));
     
         String oldEmail = existingReservation.getPassengerEmail();
-        Flight newFlight = validateAndGetNewFlight(reservationDTO.getFlightId()).orElse(null);
+        Long oldFlightId = existingReservation.getFlight().getId();
+        Flight newFlight = validateAndGetNewFlight(existingReservation, reservationDTO.getFlightId()).orElse(null);
     
         boolean isUpdated = updateEntityFields(existingReservation, reservationDTO, newFlight);
         if (!isUpdated) throw new NoChangesMadeException("reservation");
@@ -166,60 +235,88 @@ public class ReservationServiceImpl implements ReservationService {
         Reservation updatedReservation = reservationRepository.save(existingReservation);
         ReservationResponseDTO responseDTO = reservationMapper.toResponse(updatedReservation);
     
-        handleNotifications(responseDTO, oldEmail, newFlight != null, newFlight);
+        boolean isFlightChanged = newFlight != null && !Objects.equals(oldFlightId, newFlight.getId());
+        handleNotifications(updatedReservation, oldEmail, isFlightChanged, newFlight);
+        if (isFlightChanged) {
+            eventPublisher.publishEvent(ReservationChangedEvent.moved(id, newFlight.getId(), oldFlightId));
+        }
     
         log.info("Reservation with ID {} successfully updated.", id);
         return responseDTO;
     }
         
     /**
-     * Sends email notifications after updating a reservation.
+     * Cancels a reservation and returns its seat to the flight.
+     * The reservation is kept with status false, so it no longer counts towards the flight's seats.
      *
-     * @param reservationDTO updated reservation details
+     * @param id the ID of the reservation to cancel
+     * @return the cancelled reservation as a response DTO
+     * @throws ReservationNotFoundException if the reservation with the given ID is not found
+     * @throws NoChangesMadeException if the reservation is already cancelled
+     * @throws ConcurrentUpdateConflictException if concurrent updates of the reservation kept winning the race
+     */
+    @Override
+    public ReservationResponseDTO cancelReservation(Long id) {
+        return conflictRetryExecutor.execute("reservation", id, () -> {
+            Reservation reservation = reservationRepository.findById(id)
+                    .orElseThrow(() -> new ReservationNotFoundException(id));
+            if (!reservation.isStatus()) {
+                throw new NoChangesMadeException("reservation");
+            }
+            reservation.setStatus(false);
+            seatInventoryService.releaseSeat(reservation.getFlight().getId());
+            eventPublisher.publishEvent(ReservationChangedEvent.cancelled(id, reservation.getFlight().getId()));
+
+            log.info("Reservation with ID {} cancelled.", id);
+            return reservationMapper.toResponse(reservationRepository.save(reservation));
+        });
+    }
+
+    /**
+     * Records email notifications in the outbox after updating a reservation.
+     * They are committed together with the reservation and sent by the outbox relay.
+     *
+     * @param reservation updated reservation
      * @param oldEmail previous email
      * @param isFlightChanged if the flight was changed
      * @param newFlight the new flight (if changed)
      */
-    private void handleNotifications(ReservationResponseDTO reservationDTO, String oldEmail, boolean isFlightChanged, Flight newFlight) {
-        String newEmail = reservationDTO.getPassengerEmail();
+    private void handleNotifications(Reservation reservation, String oldEmail, boolean isFlightChanged, Flight newFlight) {
+        String newEmail = reservation.getPassengerEmail();
         boolean isEmailChanged = !Objects.equals(oldEmail, newEmail);
     
         if (isEmailChanged) {
-            emailService.sendConfirmationEmail(reservationDTO);
+            notificationOutboxService.recordConfirmation(reservation);
         }
         if (isFlightChanged) {
-            emailService.sendFlightChangeNotificationEmail(reservationDTO, newFlight.getId());
+            notificationOutboxService.recordFlightChange(reservation, newFlight.getId());
         }
     }
 
     /**
      * Validates and retrieves the new flight by ID.
+     * If the reservation moves to another flight, a seat is taken on the new flight
+     * and the seat on the current flight is returned.
      *
+     * @param reservation the reservation being updated
      * @param flightId new flight ID
      * @return validated flight or empty if invalid
      * @throws FlightNotFoundException if the flight with the given ID is not found
      * @throws FlightFullyBookedException if the flight is fully booked
      */
-    private Optional<Flight> validateAndGetNewFlight(Long flightId) {
+    private Optional<Flight> validateAndGetNewFlight(Reservation reservation, Long flightId) {
         if (flightId == null) return Optional.empty();
     
         Flight newFlight = flightRepository.findById(flightId)
                 .orElseThrow(() -> new FlightNotFoundException(flightId));
     
-        checkFlightCapacity(newFlight);
-        return Optional.of(newFlight);
-    }
-
-    /**
-     * Checks if the flight is fully booked.
-     * 
-     * @param flight the flight to check
-     * @throws FlightFullyBookedException if the flight is fully booked
-     */
-    private void checkFlightCapacity(Flight flight) {
-        if (reservationRepository.countByFlightIdAndStatusTrue(flight.getId()) >= flight.getAirplane().getCapacity()) {
-            throw new FlightFullyBookedException();
+        Long currentFlightId = reservation.getFlight().getId();
+        // A cancelled reservation holds no seat to move
+        if (reservation.isStatus() && !Objects.equals(currentFlightId, newFlight.getId())) {
+            seatInventoryService.reserveSeat(newFlight.getId());
+            seatInventoryService.releaseSeat(currentFlightId);
         }
+        return Optional.of(newFlight);
     }
 
     /**
@@ -238,24 +335,8 @@ public class ReservationServiceImpl implements ReservationService {
             isUpdated = true;
         }
     
-        for (Field field : PartialReservationRequestDTO.class.getDeclaredFields()) {
-            try {
-                field.setAccessible(true);
-                Object dtoValue = field.get(reservationDTO);
-                if (dtoValue != null) {
-                    Field reservationField = Reservation.class.getDeclaredField(field.getName());
-                    reservationField.setAccessible(true);
-                    Object reservationValue = reservationField.get(reservation);
-    
-                    if (!Objects.equals(dtoValue, reservationValue)) {
-                        reservationField.set(reservation, dtoValue);
-                        isUpdated = true;
-                        log.info("Updated field: {} with value: {}", field.getName(), dtoValue);
-                    }
-                }
-            } catch (NoSuchFieldException | IllegalAccessException e) {
-                log.error("Error updating field: {}", field.getName(), e);
-            }
+        if (!ReservationMapper.PATCH.apply(reservationDTO, reservation).isEmpty()) {
+            isUpdated = true;
         }
     
         return isUpdated;
@@ -0,0 +1,223 @@
+package org.yashas.AirlineManagement.service.implementations;
+
+import org.yashas.AirlineManagement.exception.entityrelated.FlightNotFoundException;
+import org.yashas.AirlineManagement.exception.entityrelated.SeatHoldNotFoundException;
+import org.yashas.AirlineManagement.exception.state.FlightFullyBookedException;
+import org.yashas.AirlineManagement.exception.state.SeatHoldExpiredException;
+import org.yashas.AirlineManagement.mapper.SeatHoldMapper;
+import org.yashas.AirlineManagement.model.SeatHold;
+import org.yashas.AirlineManagement.payload.hold.SeatHoldResponseDTO;
+import org.yashas.AirlineManagement.payload.reservation.ReservationRequestDTO;
+import org.yashas.AirlineManagement.payload.reservation.ReservationResponseDTO;
+import org.yashas.AirlineManagement.repository.SeatHoldRepository;
+import org.yashas.AirlineManagement.service.interfaces.ReservationService;
+import org.yashas.AirlineManagement.service.interfaces.SeatHoldService;
+import org.yashas.AirlineManagement.util.timer.HierarchicalTimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Seat holds: a seat is taken from the flight inventory for a limited time while the passenger pays.
+ * Holds are persisted in {@code seat_hold} and their expirations are tracked by an in-memory
+ * hierarchical timing wheel, which is rebuilt from the table on startup. An expired hold returns
+ * its seat through the inventory counter, without touching the reservation table.
+ */
+@Service
+@Slf4j
+public class SeatHoldServiceImpl implements SeatHoldService {
+
+    private static final long EXPIRY_RETRY_MS = 30_000;
+
+    private final SeatHoldRepository holdRepository;
+    private final SeatHoldMapper holdMapper;
+    private final SeatInventoryService seatInventoryService;
+    private final ReservationService reservationService;
+    private final TransactionTemplate transactionTemplate;
+    private final long ttlMinutes;
+    private final ExecutorService expiryExecutor;
+    private final HierarchicalTimingWheel<Long> expiryWheel;
+
+    public SeatHoldServiceImpl(SeatHoldRepository holdRepository,
+                               SeatHoldMapper holdMapper,
+                               SeatInventoryService seatInventoryService,
+                               ReservationService reservationService,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${reservation.hold.ttl-minutes:10}") long ttlMinutes,
+                               @Value("${reservation.hold.wheel-tick-ms:1000}") long wheelTickMs,
+                               @Value("${reservation.hold.wheel-size:60}") int wheelSize) {
+        this.holdRepository = holdRepository;
+        this.holdMapper = holdMapper;
+        this.seatInventoryService = seatInventoryService;
+        this.reservationService = reservationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttlMinutes = ttlMinutes;
+        this.expiryExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("seat-hold-expiry-"));
+        this.expiryWheel = new HierarchicalTimingWheel<>("seat-hold-wheel", wheelTickMs, wheelSize, this::expireHold, expiryExecutor);
+    }
+
+    @PostConstruct
+    void start() {
+        expiryWheel.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        expiryWheel.stop();
+        expiryExecutor.shutdown();
+    }
+
+    /**
+     * Schedules the expiration of every persisted hold, so holds survive restarts.
+     * Holds that expired while the application was down are released right away.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreHolds() {
+        List<SeatHold> holds = holdRepository.findAll();
+        holds.forEach(this::scheduleExpiry);
+        if (!holds.isEmpty()) {
+            log.info("Restored {} seat hold(s)", holds.size());
+        }
+    }
+
+    /**
+     * Takes a seat on the flight and holds it for the configured time.
+     *
+     * @param holdDTO passenger and flight details
+     * @return the created hold, including its expiration time
+     * @throws FlightNotFoundException if the flight is not found
+     * @throws FlightFullyBookedException if no seat is left
+     */
+    @Override
+    @Transactional
+    public SeatHoldResponseDTO createHold(ReservationRequestDTO holdDTO) {
+        seatInventoryService.reserveSeat(holdDTO.getFlightId());
+
+        LocalDateTime now = LocalDateTime.now();
+        SeatHold hold = SeatHold.builder()
+                .flightId(holdDTO.getFlightId())
+                .passengerName(holdDTO.getPassengerName())
+                .passengerEmail(holdDTO.getPassengerEmail())
+                .createdAt(now)
+                .expiresAt(now.plusMinutes(ttlMinutes))
+                .build();
+        SeatHold savedHold = holdRepository.save(hold);
+        scheduleExpiry(savedHold);
+
+        log.info("Seat held on flight {} with hold ID: {}", savedHold.getFlightId(), savedHold.getId());
+
+        return holdMapper.toResponse(savedHold);
+    }
+
+    /**
+     * Retrieves a specific seat hold by its unique ID.
+     *
+     * @param id ID of the hold
+     * @return hold response DTO corresponding to the given ID
+     * @throws SeatHoldNotFoundException if the hold is not found, e.g. because it expired
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SeatHoldResponseDTO getHoldById(Long id) {
+        return holdRepository.findById(id)
+                .map(holdMapper::toResponse)
+                .orElseThrow(() -> new SeatHoldNotFoundException(id));
+    }
+
+    /**
+     * Turns the hold into a reservation. The held seat is used, so no capacity check is needed.
+     *
+     * @param id ID of the hold
+     * @return the created reservation
+     * @throws SeatHoldNotFoundException if the hold is not found
+     * @throws SeatHoldExpiredException if the hold expired before it was confirmed
+     */
+    @Override
+    @Transactional
+    public ReservationResponseDTO confirmHold(Long id) {
+        SeatHold hold = holdRepository.findById(id)
+                .orElseThrow(() -> new SeatHoldNotFoundException(id));
+
+        if (hold.getExpiresAt().isBefore(LocalDateTime.now()) || holdRepository.deleteHold(id) == 0) {
+            throw new SeatHoldExpiredException(id);
+        }
+        cancelExpiryAfterCommit(id);
+
+        ReservationRequestDTO reservationDTO = new ReservationRequestDTO(
+                hold.getPassengerName(), hold.getPassengerEmail(), hold.getFlightId());
+        ReservationResponseDTO reservation = reservationService.createReservationForHeldSeat(reservationDTO);
+
+        log.info("Seat hold {} confirmed as reservation {}", id, reservation.getReservationCode());
+
+        return reservation;
+    }
+
+    /**
+     * Releases the hold and returns its seat to the flight.
+     *
+     * @param id ID of the hold
+     * @throws SeatHoldNotFoundException if the hold is not found
+     */
+    @Override
+    @Transactional
+    public void releaseHold(Long id) {
+        SeatHold hold = holdRepository.findById(id)
+                .orElseThrow(() -> new SeatHoldNotFoundException(id));
+
+        if (holdRepository.deleteHold(id) == 0) {
+            throw new SeatHoldNotFoundException(id);
+        }
+        seatInventoryService.releaseSeat(hold.getFlightId());
+        cancelExpiryAfterCommit(id);
+
+        log.info("Seat hold {} released", id);
+    }
+
+    /**
+     * Called by the timing wheel. Deleting the hold and returning its seat happen in one transaction,
+     * and the conditional delete makes sure a hold confirmed at the same moment is left alone.
+     */
+    private void expireHold(Long id) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    holdRepository.findById(id).ifPresent(hold -> {
+                        if (holdRepository.deleteHold(id) == 1) {
+                            seatInventoryService.releaseSeat(hold.getFlightId());
+                            log.info("Seat hold {} expired; seat returned to flight {}", id, hold.getFlightId());
+                        }
+                    }));
+        } catch (Exception e) {
+            log.error("Failed to expire seat hold {}; retrying in {} ms", id, EXPIRY_RETRY_MS, e);
+            expiryWheel.schedule(id, System.currentTimeMillis() + EXPIRY_RETRY_MS);
+        }
+    }
+
+    private void scheduleExpiry(SeatHold hold) {
+        long expiresAtMs = hold.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        expiryWheel.schedule(hold.getId(), expiresAtMs);
+    }
+
+    private void cancelExpiryAfterCommit(Long id) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                expiryWheel.cancel(id);
+            }
+        });
+    }
+}
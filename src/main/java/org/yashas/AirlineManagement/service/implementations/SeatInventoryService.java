@@ -0,0 +1,236 @@
+package org.yashas.AirlineManagement.service.implementations;
+
+import org.yashas.AirlineManagement.event.FlightCapacityExhaustedEvent;
+import org.yashas.AirlineManagement.exception.entityrelated.FlightNotFoundException;
+import org.yashas.AirlineManagement.exception.state.FlightFullyBookedException;
+import org.yashas.AirlineManagement.model.Flight;
+import org.yashas.AirlineManagement.model.FlightInventory;
+import org.yashas.AirlineManagement.payload.flight.FlightAvailabilityDTO;
+import org.yashas.AirlineManagement.repository.FlightInventoryRepository;
+import org.yashas.AirlineManagement.repository.FlightRepository;
+import org.yashas.AirlineManagement.repository.ReservationRepository;
+import org.yashas.AirlineManagement.util.constant.MetricNames;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import lombok.extern.slf4j.Slf4j;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keeps the per-flight seat counters in {@code flight_inventory}.
+ * Seats are taken with conditional updates ({@code seats_booked + n < capacity}, or {@code = capacity}
+ * for the last seats), which the database applies atomically per row, so concurrent bookings cannot oversell a flight.
+ */
+@Service
+@Slf4j
+public class SeatInventoryService {
+
+    private final FlightInventoryRepository inventoryRepository;
+    private final FlightRepository flightRepository;
+    private final ReservationRepository reservationRepository;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate newTransaction;
+
+    public SeatInventoryService(FlightInventoryRepository inventoryRepository,
+                                FlightRepository flightRepository,
+                                ReservationRepository reservationRepository,
+                                MeterRegistry meterRegistry,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager) {
+        this.inventoryRepository = inventoryRepository;
+        this.flightRepository = flightRepository;
+        this.reservationRepository = reservationRepository;
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Creates the seat counter for a newly created flight.
+     *
+     * @param flight the persisted flight
+     */
+    @Transactional
+    public void initialize(Flight flight) {
+        inventoryRepository.save(new FlightInventory(flight.getId(), flight.getAirplane().getCapacity(), 0));
+    }
+
+    /**
+     * Creates the seat counters that are still missing at startup, e.g. for seed data,
+     * so that availability is always read from a counter and never counted per request.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeMissing() {
+        int created = inventoryRepository.insertMissing();
+        if (created > 0) {
+            log.info("Initialized seat inventory for {} flights", created);
+        }
+    }
+
+    /**
+     * Reads the seat counters of the given flights in one query.
+     *
+     * @param flightIds IDs of the flights
+     * @return availability of the flights that have a seat counter, in no particular order
+     */
+    @Transactional(readOnly = true)
+    public List<FlightAvailabilityDTO> getAvailability(Collection<Long> flightIds) {
+        return inventoryRepository.findAllById(flightIds).stream()
+                .map(inventory -> new FlightAvailabilityDTO(inventory.getFlightId(), inventory.getCapacity(),
+                        inventory.getSeatsBooked(), Math.max(0, inventory.getCapacity() - inventory.getSeatsBooked())))
+                .toList();
+    }
+
+    /**
+     * Takes one seat on the flight.
+     *
+     * @param flightId ID of the flight
+     * @throws FlightFullyBookedException if no seat is left
+     * @throws FlightNotFoundException if the flight does not exist
+     */
+    @Transactional
+    public void reserveSeat(Long flightId) {
+        reserveSeats(flightId, 1);
+    }
+
+    /**
+     * Takes the given number of seats on the flight, all or nothing.
+     *
+     * @param flightId ID of the flight
+     * @param seats number of seats to take
+     * @throws FlightFullyBookedException if fewer seats are left
+     * @throws FlightNotFoundException if the flight does not exist
+     */
+    @Transactional
+    public void reserveSeats(Long flightId, int seats) {
+        if (takeSeats(flightId, seats)) {
+            return;
+        }
+        if (!inventoryRepository.existsById(flightId)) {
+            initializeFromReservations(flightId);
+            if (takeSeats(flightId, seats)) {
+                return;
+            }
+        }
+        meterRegistry.counter(MetricNames.CAPACITY_REJECTIONS).increment();
+        throw new FlightFullyBookedException();
+    }
+
+    /**
+     * Returns one seat to the flight.
+     *
+     * @param flightId ID of the flight
+     */
+    @Transactional
+    public void releaseSeat(Long flightId) {
+        releaseSeats(flightId, 1);
+    }
+
+    /**
+     * Returns the given number of seats to the flight.
+     *
+     * @param flightId ID of the flight
+     * @param seats number of seats to return
+     */
+    @Transactional
+    public void releaseSeats(Long flightId, int seats) {
+        if (inventoryRepository.releaseSeats(flightId, seats) == 0) {
+            // No counter yet: it is built from the reservation table on the next booking.
+            log.debug("No seat counter to release {} seat(s) on flight {}", seats, flightId);
+        }
+    }
+
+    /**
+     * Updates the capacity of a flight, e.g. after another airplane was assigned to it.
+     *
+     * @param flightId ID of the flight
+     * @param capacity the new capacity
+     */
+    @Transactional
+    public void updateCapacity(Long flightId, int capacity) {
+        inventoryRepository.updateCapacity(flightId, capacity);
+    }
+
+    /**
+     * Updates the capacity of every flight operated by the airplane.
+     *
+     * @param airplaneId ID of the airplane
+     * @param capacity the new capacity
+     */
+    @Transactional
+    public void updateCapacityForAirplane(Long airplaneId, int capacity) {
+        inventoryRepository.updateCapacityForAirplane(airplaneId, capacity);
+    }
+
+    /**
+     * Removes the seat counter of a flight that is being deleted.
+     *
+     * @param flightId ID of the flight
+     */
+    @Transactional
+    public void remove(Long flightId) {
+        inventoryRepository.deleteByFlightId(flightId);
+    }
+
+    /**
+     * Removes the seat counters of every flight operated by an airplane that is being deleted.
+     *
+     * @param airplaneId ID of the airplane
+     */
+    @Transactional
+    public void removeForAirplane(Long airplaneId) {
+        inventoryRepository.deleteForAirplane(airplaneId);
+    }
+
+    /**
+     * Takes the seats with a conditional update. Most bookings leave seats over and cost that one update;
+     * only when it fails is a second update tried that takes exactly the last seats. That one succeeding
+     * is what tells this booking sold the flight out, and only then is a {@link FlightCapacityExhaustedEvent} published.
+     *
+     * @return false if fewer seats are left or the flight has no counter
+     */
+    private boolean takeSeats(Long flightId, int seats) {
+        if (inventoryRepository.reserveSeatsLeavingSome(flightId, seats) == 1) {
+            return true;
+        }
+        if (inventoryRepository.reserveLastSeats(flightId, seats) == 1) {
+            eventPublisher.publishEvent(new FlightCapacityExhaustedEvent(flightId));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Builds the seat counter for a flight created before inventories existed (e.g. seed data).
+     * Along with {@link #initializeMissing()}, this is the only place that counts reservations; each runs at most once per flight.
+     * <p>
+     * The row is inserted in its own transaction, so when two first bookings of the same flight race,
+     * the loser's duplicate key fails only that insert: it then books against the winner's counter.
+     */
+    private void initializeFromReservations(Long flightId) {
+        Flight flight = flightRepository.findById(flightId)
+                .orElseThrow(() -> new FlightNotFoundException(flightId));
+        int capacity = flight.getAirplane().getCapacity();
+        try {
+            int seatsBooked = newTransaction.execute(status -> {
+                int booked = reservationRepository.countByFlightIdAndStatusTrue(flightId);
+                inventoryRepository.insert(flightId, capacity, booked);
+                return booked;
+            });
+            log.info("Initialized seat inventory for flight {}: {}/{} seats booked", flightId, seatsBooked, capacity);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Seat inventory for flight {} was initialized concurrently", flightId);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.yashas.AirlineManagement.service.implementations;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import lombok.extern.slf4j.Slf4j;
+import java.util.List;
+
+/**
+ * Reserves ranges of a named counter in {@code sequence_block}.
+ * Each allocation runs in its own short transaction, so the row lock is released right away
+ * and a rollback of the caller's transaction never hands the same range out twice.
+ * <p>
+ * Allocations use a connection of their own, outside the application's pool. Callers are usually inside a
+ * transaction already: with every pooled connection held by bookings waiting for the code generator, or for
+ * a seat counter the allocating booking has locked, a second connection from that pool would only come free
+ * once they time out.
+ */
+@Service
+@Slf4j
+public class SequenceBlockAllocator implements DisposableBean {
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public SequenceBlockAllocator(DataSourceProperties properties,
+                                  @Value("${spring.datasource.hikari.connection-timeout:30000}") long connectionTimeoutMs) {
+        this.dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        this.dataSource.setPoolName("airline-db-sequence");
+        this.dataSource.setMaximumPoolSize(1);
+        this.dataSource.setMinimumIdle(0);
+        this.dataSource.setConnectionTimeout(connectionTimeoutMs);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    /**
+     * Reserves {@code size} consecutive values.
+     *
+     * @param name counter name
+     * @param size number of values to reserve
+     * @return first value of the reserved range; the range is {@code [start, start + size)}
+     * @throws DataIntegrityViolationException if another instance created the counter concurrently; retrying succeeds
+     */
+    public long allocate(String name, int size) {
+        long start = transactionTemplate.execute(status -> {
+            List<Long> nextValue = jdbcTemplate.queryForList(
+                    "select next_value from sequence_block where sequence_name = ? for update", Long.class, name);
+            if (nextValue.isEmpty()) {
+                jdbcTemplate.update("insert into sequence_block (sequence_name, next_value) values (?, ?)", name, size);
+                return 0L;
+            }
+            jdbcTemplate.update("update sequence_block set next_value = ? where sequence_name = ?",
+                    nextValue.get(0) + size, name);
+            return nextValue.get(0);
+        });
+        log.debug("Allocated values [{}, {}) of sequence '{}'", start, start + size, name);
+        return start;
+    }
+
+    @Override
+    public void destroy() {
+        dataSource.close();
+    }
+}
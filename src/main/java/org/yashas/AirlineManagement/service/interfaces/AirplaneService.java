@@ -1,13 +1,16 @@
 package org.yashas.AirlineManagement.service.interfaces;
 
-import java.util.List;
+import java.util.function.Consumer;
+import org.yashas.AirlineManagement.payload.common.CursorPage;
 import org.yashas.AirlineManagement.payload.airplane.AirplaneRequestDTO;
 import org.yashas.AirlineManagement.payload.airplane.AirplaneResponseDTO;
 import org.yashas.AirlineManagement.payload.airplane.PartialAirplaneRequestDTO;
 
 public interface AirplaneService {
     
-    List<AirplaneResponseDTO> getAllAirplanes();
+    CursorPage<AirplaneResponseDTO> getAllAirplanes(Long after, int limit);
+    
+    void streamAllAirplanes(Consumer<AirplaneResponseDTO> consumer);
     
     AirplaneResponseDTO getAirplaneById(Long id);
     
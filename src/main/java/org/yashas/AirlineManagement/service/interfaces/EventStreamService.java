@@ -0,0 +1,9 @@
+package org.yashas.AirlineManagement.service.interfaces;
+
+import java.util.Set;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface EventStreamService {
+
+    SseEmitter subscribe(Set<String> types, Set<Long> flightIds, Long lastEventId);
+}
@@ -1,6 +1,9 @@
 package org.yashas.AirlineManagement.service.interfaces;
 
 import java.util.List;
+import java.util.function.Consumer;
+import org.yashas.AirlineManagement.payload.common.CursorPage;
+import org.yashas.AirlineManagement.payload.flight.FlightAvailabilityDTO;
 import org.yashas.AirlineManagement.payload.flight.FlightFilterRequestDTO;
 import org.yashas.AirlineManagement.payload.flight.FlightRequestDTO;
 import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
@@ -8,7 +11,9 @@ import org.yashas.AirlineManagement.payload.flight.PartialFlightRequestDTO;
 
 public interface FlightService {
     
-    List<FlightResponseDTO> getAllFlights();
+    CursorPage<FlightResponseDTO> getAllFlights(Long after, int limit);
+    
+    void streamAllFlights(Consumer<FlightResponseDTO> consumer);
     
     FlightResponseDTO getFlightById(Long id);
     
@@ -17,6 +22,8 @@ public interface FlightService {
     FlightResponseDTO createFlight(FlightRequestDTO flightDTO);
     
     List<FlightResponseDTO> getFilteredFlights(FlightFilterRequestDTO filter);
+
+    List<FlightAvailabilityDTO> getFlightAvailability(List<Long> flightIds);
     
     FlightResponseDTO partialUpdateFlight(Long flightId, PartialFlightRequestDTO flightDTO);
     
@@ -0,0 +1,10 @@
+package org.yashas.AirlineManagement.service.interfaces;
+
+import java.util.List;
+import org.yashas.AirlineManagement.payload.itinerary.ItineraryResponseDTO;
+import org.yashas.AirlineManagement.payload.itinerary.ItinerarySearchRequestDTO;
+
+public interface ItineraryService {
+    
+    List<ItineraryResponseDTO> searchItineraries(ItinerarySearchRequestDTO request);
+}
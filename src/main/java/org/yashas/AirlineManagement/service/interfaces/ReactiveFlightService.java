@@ -0,0 +1,16 @@
+package org.yashas.AirlineManagement.service.interfaces;
+
+import java.util.List;
+import org.yashas.AirlineManagement.payload.flight.FlightAvailabilityDTO;
+import org.yashas.AirlineManagement.payload.flight.FlightFilterRequestDTO;
+import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveFlightService {
+
+    Flux<FlightResponseDTO> streamFlights(Long after);
+
+    Flux<FlightResponseDTO> searchFlights(FlightFilterRequestDTO filter);
+
+    Flux<FlightAvailabilityDTO> getFlightAvailability(List<Long> flightIds);
+}
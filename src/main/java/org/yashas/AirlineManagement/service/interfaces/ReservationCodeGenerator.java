@@ -0,0 +1,14 @@
+package org.yashas.AirlineManagement.service.interfaces;
+
+import java.util.List;
+
+/**
+ * Source of reservation codes. Implementations must never return a code twice,
+ * across all application instances sharing the database.
+ */
+public interface ReservationCodeGenerator {
+    
+    String nextCode();
+    
+    List<String> nextCodes(int count);
+}
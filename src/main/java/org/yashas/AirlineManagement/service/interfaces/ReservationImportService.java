@@ -0,0 +1,10 @@
+package org.yashas.AirlineManagement.service.interfaces;
+
+import java.util.List;
+import org.yashas.AirlineManagement.payload.reservation.BulkReservationResponseDTO;
+import org.yashas.AirlineManagement.payload.reservation.ReservationRequestDTO;
+
+public interface ReservationImportService {
+    
+    BulkReservationResponseDTO importReservations(List<ReservationRequestDTO> reservations);
+}
@@ -1,19 +1,28 @@
 package org.yashas.AirlineManagement.service.interfaces;
 
-import java.util.List;
+import java.util.function.Consumer;
+import org.yashas.AirlineManagement.payload.common.CursorPage;
 import org.yashas.AirlineManagement.payload.reservation.PartialReservationRequestDTO;
 import org.yashas.AirlineManagement.payload.reservation.ReservationRequestDTO;
 import org.yashas.AirlineManagement.payload.reservation.ReservationResponseDTO;
 
 public interface ReservationService {
     
-    List<ReservationResponseDTO> getAllReservations();
+    CursorPage<ReservationResponseDTO> getAllReservations(Long after, int limit);
+    
+    void streamAllReservations(Consumer<ReservationResponseDTO> consumer);
     
     ReservationResponseDTO getReservationById(Long id);
     
-    List<ReservationResponseDTO> getReservationsByFlightId(Long flightId);
+    CursorPage<ReservationResponseDTO> getReservationsByFlightId(Long flightId, Long after, int limit);
+    
+    void streamReservationsByFlightId(Long flightId, Consumer<ReservationResponseDTO> consumer);
     
     ReservationResponseDTO createReservation(ReservationRequestDTO dto);
     
+    ReservationResponseDTO createReservationForHeldSeat(ReservationRequestDTO dto);
+    
     ReservationResponseDTO partialUpdateReservation(Long id, PartialReservationRequestDTO reservationDTO);
+
+    ReservationResponseDTO cancelReservation(Long id);
 }
\ No newline at end of file
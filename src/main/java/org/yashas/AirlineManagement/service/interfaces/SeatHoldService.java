@@ -0,0 +1,16 @@
+package org.yashas.AirlineManagement.service.interfaces;
+
+import org.yashas.AirlineManagement.payload.hold.SeatHoldResponseDTO;
+import org.yashas.AirlineManagement.payload.reservation.ReservationRequestDTO;
+import org.yashas.AirlineManagement.payload.reservation.ReservationResponseDTO;
+
+public interface SeatHoldService {
+
+    SeatHoldResponseDTO createHold(ReservationRequestDTO holdDTO);
+
+    SeatHoldResponseDTO getHoldById(Long id);
+
+    ReservationResponseDTO confirmHold(Long id);
+
+    void releaseHold(Long id);
+}
@@ -0,0 +1,66 @@
+package org.yashas.AirlineManagement.util.code;
+
+/**
+ * Keyed bijection on {@code [0, side * side)}, built as a balanced Feistel network with modular addition.
+ * A value is split into two halves in {@code [0, side)}; each round replaces {@code (left, right)} with
+ * {@code (right, (left + F(right, roundKey)) mod side)}. Every round is invertible whatever F is,
+ * so distinct inputs always map to distinct outputs, while consecutive inputs come out scattered.
+ */
+public final class FeistelPermutation {
+
+    private final long side;
+    private final long[] roundKeys;
+
+    /**
+     * @param side size of each half; the domain is {@code side * side}
+     * @param rounds number of Feistel rounds (at least 4 for good mixing)
+     * @param key secret the round keys are derived from
+     */
+    public FeistelPermutation(long side, int rounds, long key) {
+        if (side <= 1 || side > 3_037_000_499L) {
+            throw new IllegalArgumentException("side must be in (1, sqrt(Long.MAX_VALUE)]");
+        }
+        this.side = side;
+        this.roundKeys = new long[rounds];
+        long state = key;
+        for (int i = 0; i < rounds; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            roundKeys[i] = mix(state);
+        }
+    }
+
+    public long domainSize() {
+        return side * side;
+    }
+
+    /**
+     * @param value input in {@code [0, domainSize())}
+     * @return the permuted value, also in {@code [0, domainSize())}
+     */
+    public long permute(long value) {
+        if (value < 0 || value >= domainSize()) {
+            throw new IllegalArgumentException("value out of range: " + value);
+        }
+        long left = value / side;
+        long right = value % side;
+        for (long roundKey : roundKeys) {
+            long next = Math.floorMod(left + round(right, roundKey), side);
+            left = right;
+            right = next;
+        }
+        return left * side + right;
+    }
+
+    private long round(long half, long roundKey) {
+        return Math.floorMod(mix(half ^ roundKey), side);
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,30 @@
+package org.yashas.AirlineManagement.util.concurrent;
+
+/**
+ * The platform threads that virtual threads run on.
+ * <p>
+ * A virtual thread that blocks inside a {@code synchronized} block or method cannot unmount and keeps
+ * its carrier blocked ("pinned"). Code that may block while holding a monitor, such as the embedded H2
+ * engine or Jakarta Mail's SMTP transport, must therefore run on fewer threads at once than there are
+ * carriers, or a burst of it stalls every virtual thread in the application.
+ */
+public final class CarrierThreads {
+
+    private CarrierThreads() {
+    }
+
+    /**
+     * @return the number of carrier threads: {@code jdk.virtualThreadScheduler.parallelism} if set, otherwise the number of processors
+     */
+    public static int parallelism() {
+        return Math.max(1, Integer.getInteger("jdk.virtualThreadScheduler.parallelism",
+                Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * @return the number of threads that may block while pinned and still leave a carrier free
+     */
+    public static int maxPinnable() {
+        return Math.max(1, parallelism() - 1);
+    }
+}
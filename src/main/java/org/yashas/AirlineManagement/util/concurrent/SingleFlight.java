@@ -0,0 +1,124 @@
+package org.yashas.AirlineManagement.util.concurrent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.yashas.AirlineManagement.util.constant.MetricNames;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the load, callers arriving while it
+ * runs wait for it and receive the same result, or the same exception. Nothing is kept once the load
+ * finishes, so this complements a cache rather than replacing it: it only removes the burst of identical
+ * queries that follows a cache miss or eviction of a popular key.
+ * <p>
+ * Loads are counted under {@code airline.singleflight.loads}, tagged with the lookup name and with
+ * {@code role} leader (ran the load) or coalesced (shared another caller's load); the gauge
+ * {@code airline.singleflight.coalescing.ratio} is the share of coalesced calls since startup.
+ *
+ * @param <K> the key type
+ * @param <V> the type of the loaded value; shared between callers, so it must not be modified
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        FunctionCounter.builder(MetricNames.SINGLE_FLIGHT_LOADS, leaders, LongAdder::doubleValue)
+                .description("Lookups that ran the load themselves")
+                .tag("name", name)
+                .tag("role", "leader")
+                .register(meterRegistry);
+        FunctionCounter.builder(MetricNames.SINGLE_FLIGHT_LOADS, coalesced, LongAdder::doubleValue)
+                .description("Lookups that shared the load of a concurrent identical lookup")
+                .tag("name", name)
+                .tag("role", "coalesced")
+                .register(meterRegistry);
+        Gauge.builder(MetricNames.SINGLE_FLIGHT_COALESCING_RATIO, this, SingleFlight::getCoalescingRatio)
+                .description("Share of lookups served by a concurrent identical lookup since startup")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the result of the load of the key running in another thread, or runs the load if there is none.
+     *
+     * @param key the key to load
+     * @param loader loads the value; runs in the calling thread
+     * @return the loaded value
+     */
+    public V load(K key, Supplier<V> loader) {
+        return execute(key, loader).value();
+    }
+
+    /**
+     * Like {@link #load}, but also tells whether the value came from another caller's load.
+     *
+     * @param key the key to load
+     * @param loader loads the value; runs in the calling thread
+     * @return the loaded value, and whether it was shared from a concurrent load
+     */
+    public Result<V> execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            coalesced.increment();
+            return new Result<>(await(running), true);
+        }
+        leaders.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return new Result<>(value, false);
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            // Releases waiters even if an Error escaped
+            call.cancel(false);
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * Makes later callers start a new load of the key instead of joining the running one,
+     * e.g. because the key's data changed after that load read it. Callers already waiting still share it.
+     *
+     * @param key the changed key
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    /**
+     * Value returned by {@link #execute}.
+     *
+     * @param value the loaded value
+     * @param shared whether it was loaded by a concurrent caller rather than by this one
+     */
+    public record Result<V>(V value, boolean shared) {
+    }
+
+    public double getCoalescingRatio() {
+        double shared = coalesced.sum();
+        double total = shared + leaders.sum();
+        return total == 0 ? 0 : shared / total;
+    }
+
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.yashas.AirlineManagement.util.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.yashas.AirlineManagement.util.constant.MetricNames;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that stayed pinned to their carrier for longer than a threshold, using the JFR
+ * {@code jdk.VirtualThreadPinned} event. Each occurrence increments {@code airline.threads.virtual.pinned};
+ * the first occurrence of each call site is logged with its stack, so the offending monitor can be replaced
+ * with a {@code java.util.concurrent} lock or moved off the request path.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+    private static final int MAX_LOGGED_SITES = 100;
+
+    private final Duration threshold;
+    private final Counter pinned;
+    private final Set<String> loggedSites = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream recording;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.threshold = threshold;
+        this.pinned = Counter.builder(MetricNames.VIRTUAL_THREAD_PINNED)
+                .description("Virtual threads that blocked while pinned to their carrier for longer than the threshold")
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        log.info("Reporting virtual threads pinned for longer than {} ms", threshold.toMillis());
+    }
+
+    @Override
+    public void close() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return;
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        String site = frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n\tat "));
+        if (loggedSites.size() < MAX_LOGGED_SITES && loggedSites.add(site)) {
+            log.warn("Virtual thread pinned for {} ms at\n\tat {}", event.getDuration().toMillis(), site);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.yashas.AirlineManagement.util.constant;
+
+/**
+ * Names of the Spring caches declared in {@code spring.cache.cache-names}, and of the Hibernate
+ * second-level cache regions declared in {@code application.conf}.
+ */
+public final class CacheNames {
+
+    public static final String FLIGHTS = "flights";
+    public static final String AIRPLANES = "airplanes";
+
+    // Region names are HOCON paths in application.conf, so they must not contain dots
+    public static final String FLIGHT_REGION = "flight";
+    public static final String AIRPLANE_REGION = "airplane";
+
+    private CacheNames() {
+    }
+}
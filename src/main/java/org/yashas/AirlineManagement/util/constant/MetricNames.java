@@ -0,0 +1,33 @@
+package org.yashas.AirlineManagement.util.constant;
+
+/**
+ * Names of the application's own meters, published under {@code /actuator/metrics} and {@code /actuator/prometheus}.
+ */
+public final class MetricNames {
+
+    /** Timer of every public service method, tagged with {@code class} and {@code method}. */
+    public static final String SERVICE = "airline.service";
+    public static final String CAPACITY_REJECTIONS = "airline.reservation.capacity.rejections";
+    public static final String CODE_BLOCK_ALLOCATIONS = "airline.reservation.code.block.allocations";
+    public static final String CODE_RETRIES = "airline.reservation.code.retries";
+    /** Optimistic-lock conflicts on updates, tagged with {@code entity} and {@code outcome} (retried or exhausted). */
+    public static final String OPTIMISTIC_CONFLICTS = "airline.update.conflicts";
+    public static final String REPLICA_LAG = "airline.datasource.replica.lag";
+    public static final String REPLICA_USABLE = "airline.datasource.replica.usable";
+    public static final String EVENT_STREAM_SUBSCRIBERS = "airline.events.subscribers";
+    public static final String EVENT_STREAM_DROPPED = "airline.events.subscribers.dropped";
+    /** Reservation requests answered with a stored response, tagged with {@code source} (memory, database or coalesced). */
+    public static final String IDEMPOTENT_REPLAYS = "airline.reservation.idempotent.replays";
+
+    /** Coalesced lookups, tagged with {@code name} and {@code role} (leader or coalesced). */
+    public static final String SINGLE_FLIGHT_LOADS = "airline.singleflight.loads";
+    public static final String SINGLE_FLIGHT_COALESCING_RATIO = "airline.singleflight.coalescing.ratio";
+
+    public static final String VIRTUAL_THREAD_PINNED = "airline.threads.virtual.pinned";
+
+    public static final String ARCHIVED_FLIGHTS = "airline.archive.flights";
+    public static final String ARCHIVED_RESERVATIONS = "airline.archive.reservations";
+
+    private MetricNames() {
+    }
+}
@@ -3,7 +3,9 @@ package org.yashas.AirlineManagement.util.constant;
 public enum ReservationSuccess {
     
     RESERVATION_CREATED("Reservation created successfully and confirmation email sent."),
-    RESERVATION_UPDATED("Reservation updated successfully and a new mail sent.");
+    RESERVATION_UPDATED("Reservation updated successfully and a new mail sent."),
+    RESERVATION_CANCELLED("Reservation cancelled successfully; the seat has been released."),
+    RESERVATIONS_IMPORTED("Reservations imported successfully; confirmation emails are queued.");
 
     private final String message;
 
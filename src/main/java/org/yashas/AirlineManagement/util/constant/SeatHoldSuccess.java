@@ -0,0 +1,21 @@
+package org.yashas.AirlineManagement.util.constant;
+
+public enum SeatHoldSuccess {
+    
+    HOLD_CREATED("Seat successfully held. Confirm the hold before it expires to complete the reservation."),
+    HOLD_RELEASED("Seat hold released.");
+
+    private final String message;
+
+    SeatHoldSuccess(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getMessageWithId(Long id) {
+        return message + " Hold ID: " + id;
+    }
+}
@@ -0,0 +1,134 @@
+package org.yashas.AirlineManagement.util.csv;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.yashas.AirlineManagement.exception.state.InvalidBulkImportException;
+import org.yashas.AirlineManagement.payload.reservation.ReservationRequestDTO;
+
+/**
+ * Reads reservation rows from CSV for the bulk import.
+ * The first line is a header naming the columns {@code passengerName}, {@code passengerEmail} and
+ * {@code flightId} in any order. Fields may be quoted with double quotes; a doubled quote inside a
+ * quoted field stands for a literal quote. Quoted fields cannot span lines. Other columns are ignored,
+ * but every row must have as many fields as the header and no column name may appear twice.
+ */
+public final class ReservationCsvParser {
+
+    private static final String PASSENGER_NAME = "passengername";
+    private static final String PASSENGER_EMAIL = "passengeremail";
+    private static final String FLIGHT_ID = "flightid";
+
+    private ReservationCsvParser() {
+    }
+
+    /**
+     * @param reader CSV input, read line by line
+     * @param maxRows maximum number of data rows accepted
+     * @return parsed rows in file order
+     * @throws InvalidBulkImportException if the header is incomplete or repeats a column, a row is malformed or there are too many rows
+     */
+    public static List<ReservationRequestDTO> parse(Reader reader, int maxRows) throws IOException {
+        BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        String header = lines.readLine();
+        if (header == null) {
+            throw new InvalidBulkImportException("CSV input is empty.");
+        }
+        List<String> names = split(header.replace("\uFEFF", ""), 1);
+        Map<String, Integer> columns = columns(names);
+
+        List<ReservationRequestDTO> rows = new ArrayList<>();
+        String line;
+        int lineNumber = 1;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (rows.size() == maxRows) {
+                throw new InvalidBulkImportException("A bulk import can contain at most " + maxRows + " reservations.");
+            }
+            List<String> fields = split(line, lineNumber);
+            if (fields.size() < names.size()) {
+                throw new InvalidBulkImportException("Line " + lineNumber + ": expected " + names.size() + " fields.");
+            }
+            rows.add(new ReservationRequestDTO(
+                    emptyToNull(fields.get(columns.get(PASSENGER_NAME))),
+                    emptyToNull(fields.get(columns.get(PASSENGER_EMAIL))),
+                    parseFlightId(fields.get(columns.get(FLIGHT_ID)), lineNumber)));
+        }
+        return rows;
+    }
+
+    /**
+     * @return index of each named column, by lower-case name; unnamed columns are left out
+     */
+    private static Map<String, Integer> columns(List<String> names) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim();
+            if (!name.isEmpty() && columns.put(name.toLowerCase(Locale.ROOT), i) != null) {
+                throw new InvalidBulkImportException("CSV header names the column '" + name + "' more than once.");
+            }
+        }
+        for (String required : List.of(PASSENGER_NAME, PASSENGER_EMAIL, FLIGHT_ID)) {
+            if (!columns.containsKey(required)) {
+                throw new InvalidBulkImportException("CSV header must contain passengerName, passengerEmail and flightId.");
+            }
+        }
+        return columns;
+    }
+
+    private static List<String> split(String line, int lineNumber) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new InvalidBulkImportException("Line " + lineNumber + ": unterminated quoted field.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static Long parseFlightId(String value, int lineNumber) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(trimmed);
+        } catch (NumberFormatException e) {
+            throw new InvalidBulkImportException("Line " + lineNumber + ": flightId '" + trimmed + "' is not a number.");
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -0,0 +1,30 @@
+package org.yashas.AirlineManagement.util.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Connections for read-only transactions: from the replica pool while {@link ReplicaLagMonitor} reports the
+ * replica caught up, otherwise from the primary pool.
+ */
+public class LagAwareReplicaDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor monitor;
+
+    public LagAwareReplicaDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor monitor) {
+        this.monitor = monitor;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return monitor.isReplicaUsable() ? REPLICA : PRIMARY;
+    }
+}
@@ -0,0 +1,103 @@
+package org.yashas.AirlineManagement.util.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+import javax.sql.DataSource;
+
+/**
+ * Decides whether read-only transactions may use the read replica.
+ * <p>
+ * Every check writes the current time to the {@code replica_heartbeat} row on the primary and reads the row
+ * back from the replica. The age of the replica's copy is the replication lag plus at most one check interval.
+ * The replica is used while that age is within {@code datasource.replica.max-lag-ms}; if it is older, or the
+ * replica cannot be queried, reads go to the primary until a later check finds the replica caught up.
+ * Until the first check the replica is not used.
+ * <p>
+ * The heartbeat is written in its own transaction on the primary pool, so it is committed even when the pool
+ * hands out connections with auto-commit disabled, as the prod profile does.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String UPDATE_BEAT = "update replica_heartbeat set beat_millis = ? where heartbeat_id = 1";
+    private static final String INSERT_BEAT = "insert into replica_heartbeat (heartbeat_id, beat_millis) values (1, ?)";
+    private static final String SELECT_BEAT = "select beat_millis from replica_heartbeat where heartbeat_id = 1";
+
+    private final JdbcTemplate primary;
+    private final TransactionTemplate primaryTransaction;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+
+    private volatile boolean replicaUsable;
+    private volatile long lagMillis = -1;
+
+    public ReplicaLagMonitor(DataSource primaryDataSource, DataSource replicaDataSource, long maxLagMillis) {
+        this.primary = new JdbcTemplate(primaryDataSource);
+        this.primaryTransaction = new TransactionTemplate(new DataSourceTransactionManager(primaryDataSource));
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @Scheduled(initialDelayString = "${datasource.replica.check-interval-ms:1000}",
+            fixedDelayString = "${datasource.replica.check-interval-ms:1000}")
+    public void run() {
+        beat();
+        check();
+    }
+
+    /**
+     * Writes the current time to the heartbeat row on the primary.
+     */
+    public void beat() {
+        long now = System.currentTimeMillis();
+        try {
+            primaryTransaction.executeWithoutResult(status -> {
+                if (primary.update(UPDATE_BEAT, now) == 0) {
+                    primary.update(INSERT_BEAT, now);
+                }
+            });
+        } catch (DataAccessException e) {
+            // Another instance inserted the row first, or the primary is down; the next beat tries again
+            log.debug("Could not write the replica heartbeat: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the heartbeat from the replica and updates {@link #isReplicaUsable()}.
+     */
+    public void check() {
+        boolean usable;
+        try {
+            Long beat = replica.queryForObject(SELECT_BEAT, Long.class);
+            lagMillis = beat == null ? -1 : Math.max(0, System.currentTimeMillis() - beat);
+            usable = beat != null && lagMillis <= maxLagMillis;
+        } catch (DataAccessException e) {
+            lagMillis = -1;
+            usable = false;
+        }
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("Read replica caught up (lag {} ms); routing read-only transactions to it.", lagMillis);
+            } else {
+                log.warn("Read replica unavailable or behind (lag {} ms, limit {} ms); routing reads to the primary.",
+                        lagMillis, maxLagMillis);
+            }
+        }
+        replicaUsable = usable;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * @return age of the replica's heartbeat at the last check in milliseconds, or -1 if it could not be read
+     */
+    public long getLagMillis() {
+        return lagMillis;
+    }
+}
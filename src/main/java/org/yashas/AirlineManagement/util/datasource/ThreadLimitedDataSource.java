@@ -0,0 +1,155 @@
+package org.yashas.AirlineManagement.util.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out the connections of a pool to at most {@link Limit#getThreads()} threads at once. A thread waits
+ * for a permit when it asks for its first connection and returns it when it has closed its last one.
+ * <p>
+ * Further connections of a thread that already holds one, such as those of {@code REQUIRES_NEW}
+ * transactions, need no permit of their own, so nested transactions cannot deadlock on the limit the way
+ * they would on a pool sized to it. Data sources sharing a {@link Limit} share its permits.
+ */
+public class ThreadLimitedDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final Limit limit;
+    private final Duration timeout;
+
+    /**
+     * @param timeout how long a thread waits for a permit before giving up, like a pool's connection timeout
+     */
+    public ThreadLimitedDataSource(DataSource targetDataSource, Limit limit, Duration timeout) {
+        super(targetDataSource);
+        this.limit = limit;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        AtomicInteger held = limit.enter(timeout);
+        try {
+            return limit.lease(obtainTargetDataSource().getConnection(), held);
+        } catch (SQLException | RuntimeException e) {
+            limit.leave(held);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        AtomicInteger held = limit.enter(timeout);
+        try {
+            return limit.lease(obtainTargetDataSource().getConnection(username, password), held);
+        } catch (SQLException | RuntimeException e) {
+            limit.leave(held);
+            throw e;
+        }
+    }
+
+    /**
+     * Closes the wrapped pool, if it can be closed.
+     */
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable pool) {
+            pool.close();
+        }
+    }
+
+    /**
+     * The permits shared by one or more {@link ThreadLimitedDataSource}s.
+     */
+    public static final class Limit {
+
+        private final int threads;
+        private final Semaphore permits;
+        // Connections open on the thread; 0 once the thread has returned its permit
+        private final ThreadLocal<AtomicInteger> held = new ThreadLocal<>();
+
+        public Limit(int threads) {
+            this.threads = threads;
+            this.permits = new Semaphore(threads, true);
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+
+        private AtomicInteger enter(Duration timeout) throws SQLException {
+            AtomicInteger connections = held.get();
+            if (connections == null || connections.get() == 0) {
+                try {
+                    if (!permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                        throw new SQLTransientConnectionException("No database permit became free within "
+                                + timeout.toMillis() + "ms; " + threads + " threads may use the database at once");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", e);
+                }
+                connections = new AtomicInteger();
+                held.set(connections);
+            }
+            connections.incrementAndGet();
+            return connections;
+        }
+
+        private void leave(AtomicInteger connections) {
+            if (connections.decrementAndGet() == 0) {
+                if (held.get() == connections) {
+                    held.remove();
+                }
+                permits.release();
+            }
+        }
+
+        /**
+         * Wraps the connection so that closing it, once, gives up its share of the thread's permit.
+         */
+        private Connection lease(Connection connection, AtomicInteger connections) {
+            AtomicBoolean closed = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "close" -> {
+                                if (closed.compareAndSet(false, true)) {
+                                    try {
+                                        connection.close();
+                                    } finally {
+                                        leave(connections);
+                                    }
+                                }
+                                return null;
+                            }
+                            case "isClosed" -> {
+                                return closed.get() || connection.isClosed();
+                            }
+                            case "equals" -> {
+                                return proxy == args[0];
+                            }
+                            case "hashCode" -> {
+                                return System.identityHashCode(proxy);
+                            }
+                            default -> {
+                                try {
+                                    return method.invoke(connection, args);
+                                } catch (InvocationTargetException e) {
+                                    throw e.getTargetException();
+                                }
+                            }
+                        }
+                    });
+        }
+    }
+}
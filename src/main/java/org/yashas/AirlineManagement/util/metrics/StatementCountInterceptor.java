@@ -0,0 +1,80 @@
+package org.yashas.AirlineManagement.util.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records how many SQL statements each request executed ({@code airline.http.server.statements}, tagged by
+ * method and URI pattern), and warns when one statement repeats at least {@code metrics.statements.n-plus-one-threshold}
+ * times within a request ({@code airline.http.server.n_plus_one}).
+ * Only statements run on the request thread are counted, so the async part of streaming endpoints is not included.
+ */
+@Component
+@Slf4j
+public class StatementCountInterceptor implements AsyncHandlerInterceptor {
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final StatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+
+    public StatementCountInterceptor(StatementCounter statementCounter,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${metrics.statements.n-plus-one-threshold:10}") int nPlusOneThreshold) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        statementCounter.begin();
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The response is completed on another thread; stop counting on this one
+        statementCounter.end();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        StatementCounter.Counts counts = statementCounter.end();
+        if (counts == null) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("airline.http.server.statements")
+                .description("SQL statements executed per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(counts.getTotal());
+
+        if (counts.getMostRepeatedCount() >= nPlusOneThreshold) {
+            Counter.builder("airline.http.server.n_plus_one")
+                    .description("Requests that repeated one SQL statement at least the N+1 threshold")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            String sql = counts.getMostRepeated();
+            log.warn("Possible N+1 query on {} {}: statement executed {} times ({} statements in total): {}",
+                    request.getMethod(), uri, counts.getMostRepeatedCount(), counts.getTotal(),
+                    sql.length() > MAX_LOGGED_SQL_LENGTH ? sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "..." : sql);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.yashas.AirlineManagement.util.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #begin()} and {@link #end()}.
+ * Statements are counted per SQL string; Hibernate renders parameters as {@code ?}, so the same query
+ * for different rows has the same string and a high repeat count points at an N+1 access pattern.
+ * Threads outside a counting scope are not tracked.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private final ThreadLocal<Counts> current = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Counts counts = current.get();
+        if (counts != null) {
+            counts.record(sql);
+        }
+        return sql;
+    }
+
+    public void begin() {
+        current.set(new Counts());
+    }
+
+    /**
+     * @return statements counted since {@link #begin()}, or null if no scope was open on this thread
+     */
+    public Counts end() {
+        Counts counts = current.get();
+        current.remove();
+        return counts;
+    }
+
+    public static final class Counts {
+
+        private final Map<String, Integer> perStatement = new HashMap<>();
+        private int total;
+        private String mostRepeated;
+        private int mostRepeatedCount;
+
+        private void record(String sql) {
+            total++;
+            int count = perStatement.merge(sql, 1, Integer::sum);
+            if (count > mostRepeatedCount) {
+                mostRepeated = sql;
+                mostRepeatedCount = count;
+            }
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public String getMostRepeated() {
+            return mostRepeated;
+        }
+
+        public int getMostRepeatedCount() {
+            return mostRepeatedCount;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.yashas.AirlineManagement.util.pagination;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Writes a listing as newline-delimited JSON (one object per line).
+ * Items are serialized as soon as the source hands them over, so memory use does not grow with the
+ * size of the listing. The response is flushed every {@value #FLUSH_EVERY} items so clients can start
+ * consuming while the rest is still being read from the database.
+ */
+@Component
+public class NdjsonStreamer {
+
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private static final int FLUSH_EVERY = 100;
+
+    private final ObjectWriter writer;
+
+    public NdjsonStreamer(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writer();
+    }
+
+    /**
+     * @param source pushes each item to the given consumer; runs on the servlet async thread
+     * @return streaming response with the {@code application/x-ndjson} content type
+     */
+    public <T> ResponseEntity<StreamingResponseBody> stream(Consumer<Consumer<T>> source) {
+        StreamingResponseBody body = out -> {
+            try {
+                source.accept(new LineWriter<T>(out));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    private final class LineWriter<T> implements Consumer<T> {
+        private final OutputStream out;
+        private int written;
+
+        private LineWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void accept(T item) {
+            try {
+                out.write(writer.writeValueAsBytes(item));
+                out.write('\n');
+                if (++written % FLUSH_EVERY == 0) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.yashas.AirlineManagement.util.pagination;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the page size requested by a client against the configured default and maximum.
+ */
+@Component
+public class PageLimits {
+
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    public PageLimits(@Value("${pagination.default-limit:100}") int defaultLimit,
+                      @Value("${pagination.max-limit:1000}") int maxLimit) {
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * @param requested page size from the request, or null if none was given
+     * @return a page size between 1 and {@code pagination.max-limit}
+     */
+    public int resolve(Integer requested) {
+        if (requested == null) {
+            return defaultLimit;
+        }
+        return Math.max(1, Math.min(requested, maxLimit));
+    }
+
+    /**
+     * @return the most items a single request may ask for, {@code pagination.max-limit}
+     */
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+}
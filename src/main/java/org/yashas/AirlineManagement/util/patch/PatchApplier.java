@@ -0,0 +1,103 @@
+package org.yashas.AirlineManagement.util.patch;
+
+import lombok.extern.slf4j.Slf4j;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Copies the non-null fields of a partial-update DTO onto an entity.
+ * Each field is bound once, at class-initialisation time, to method references for the DTO getter
+ * and the entity getter/setter. Applying a patch is then a plain loop of direct calls, with no
+ * {@code getDeclaredField} lookups or {@code setAccessible} checks per request.
+ *
+ * @param <P> partial-update DTO type
+ * @param <E> entity type
+ */
+@Slf4j
+public final class PatchApplier<P, E> {
+
+    private final String entityName;
+    private final List<Binding<P, E, ?>> bindings;
+
+    private PatchApplier(String entityName, List<Binding<P, E, ?>> bindings) {
+        this.entityName = entityName;
+        this.bindings = List.copyOf(bindings);
+    }
+
+    public static <P, E> Builder<P, E> builder(String entityName) {
+        return new Builder<>(entityName);
+    }
+
+    /**
+     * Copies every field that is set on the patch and differs from the entity's current value.
+     *
+     * @param patch the partial-update DTO; null fields are left untouched
+     * @param entity the entity to update
+     * @return names of the fields that changed, in binding order; empty if nothing changed
+     */
+    public Set<String> apply(P patch, E entity) {
+        Set<String> changed = null;
+        for (Binding<P, E, ?> binding : bindings) {
+            if (binding.apply(patch, entity)) {
+                if (changed == null) {
+                    changed = new LinkedHashSet<>();
+                }
+                changed.add(binding.name());
+            }
+        }
+        if (changed == null) {
+            return Collections.emptySet();
+        }
+        log.debug("Patched {} fields: {}", entityName, changed);
+        return changed;
+    }
+
+    private record Binding<P, E, V>(String name,
+                                    Function<P, V> source,
+                                    Function<E, V> getter,
+                                    BiConsumer<E, V> setter) {
+
+        boolean apply(P patch, E entity) {
+            V value = source.apply(patch);
+            if (value == null || Objects.equals(getter.apply(entity), value)) {
+                return false;
+            }
+            setter.accept(entity, value);
+            return true;
+        }
+    }
+
+    public static final class Builder<P, E> {
+
+        private final String entityName;
+        private final List<Binding<P, E, ?>> bindings = new ArrayList<>();
+
+        private Builder(String entityName) {
+            this.entityName = entityName;
+        }
+
+        /**
+         * Binds a DTO field to the matching entity property.
+         *
+         * @param name field name reported when the value changes
+         * @param source DTO getter
+         * @param getter entity getter
+         * @param setter entity setter
+         * @return this builder
+         */
+        public <V> Builder<P, E> field(String name, Function<P, V> source, Function<E, V> getter, BiConsumer<E, V> setter) {
+            bindings.add(new Binding<>(name, source, getter, setter));
+            return this;
+        }
+
+        public PatchApplier<P, E> build() {
+            return new PatchApplier<>(entityName, bindings);
+        }
+    }
+}
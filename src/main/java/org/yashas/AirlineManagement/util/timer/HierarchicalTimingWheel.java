@@ -0,0 +1,261 @@
+package org.yashas.AirlineManagement.util.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hierarchical timing wheel for expiring large numbers of keys cheaply.
+ * Scheduling and cancelling are O(1). Keys are kept in per-tick buckets, and only buckets
+ * whose time has come are touched. Deadlines beyond the range of a wheel go to a coarser
+ * overflow wheel and move down as the clock advances.
+ * A single reaper thread waits on the earliest non-empty bucket, so idle wheels cost nothing.
+ *
+ * @param <K> type of the scheduled keys
+ */
+@Slf4j
+public class HierarchicalTimingWheel<K> {
+
+    private static final long REAPER_POLL_MS = 200;
+
+    private final DelayQueue<Bucket<K>> delayQueue = new DelayQueue<>();
+    private final Map<K, Entry<K>> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Level<K> root;
+    private final Consumer<K> onExpiry;
+    private final Executor expiryExecutor;
+    private final String name;
+
+    private Thread reaper;
+    private volatile boolean running;
+
+    /**
+     * @param name name of the reaper thread
+     * @param tickMs resolution of the lowest wheel
+     * @param wheelSize number of buckets per wheel
+     * @param onExpiry callback invoked with each expired key
+     * @param expiryExecutor executor running the callbacks, so slow callbacks never delay the clock
+     */
+    public HierarchicalTimingWheel(String name, long tickMs, int wheelSize, Consumer<K> onExpiry, Executor expiryExecutor) {
+        this.name = name;
+        this.root = new Level<>(tickMs, wheelSize, System.currentTimeMillis(), delayQueue);
+        this.onExpiry = onExpiry;
+        this.expiryExecutor = expiryExecutor;
+    }
+
+    public void start() {
+        running = true;
+        reaper = new Thread(this::reap, name);
+        reaper.setDaemon(true);
+        reaper.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (reaper != null) {
+            reaper.interrupt();
+        }
+    }
+
+    /**
+     * Schedules the key to expire at the given time, replacing any earlier schedule for the same key.
+     * Keys whose deadline already passed expire immediately.
+     *
+     * @param key the key to expire
+     * @param expirationMs expiration time in epoch milliseconds
+     */
+    public void schedule(K key, long expirationMs) {
+        Entry<K> entry = new Entry<>(key, expirationMs);
+        Entry<K> previous = entries.put(key, entry);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+
+        boolean added;
+        lock.lock();
+        try {
+            added = root.add(entry);
+        } finally {
+            lock.unlock();
+        }
+        if (!added) {
+            expire(entry);
+        }
+    }
+
+    /**
+     * Cancels the pending expiration of the key.
+     *
+     * @param key the key to cancel
+     * @return true if the key was scheduled
+     */
+    public boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.cancelled = true;
+        return true;
+    }
+
+    /**
+     * @return number of keys waiting to expire
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void reap() {
+        while (running) {
+            try {
+                Bucket<K> bucket = delayQueue.poll(REAPER_POLL_MS, TimeUnit.MILLISECONDS);
+                if (bucket == null) {
+                    continue;
+                }
+
+                List<Entry<K>> expired = new ArrayList<>();
+                lock.lock();
+                try {
+                    while (bucket != null) {
+                        root.advanceClock(bucket.getExpiration());
+                        for (Entry<K> entry : bucket.flush()) {
+                            if (!entry.cancelled && !root.add(entry)) {
+                                expired.add(entry);
+                            }
+                        }
+                        bucket = delayQueue.poll();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                expired.forEach(this::expire);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in timing wheel {}", name, e);
+            }
+        }
+    }
+
+    private void expire(Entry<K> entry) {
+        if (entries.remove(entry.key, entry)) {
+            expiryExecutor.execute(() -> onExpiry.accept(entry.key));
+        }
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long expirationMs;
+        private volatile boolean cancelled;
+
+        private Entry(K key, long expirationMs) {
+            this.key = key;
+            this.expirationMs = expirationMs;
+        }
+    }
+
+    /**
+     * One wheel of the hierarchy. All access is guarded by the owning wheel's lock.
+     */
+    private static final class Level<K> {
+        private final long tickMs;
+        private final int wheelSize;
+        private final long interval;
+        private final Bucket<K>[] buckets;
+        private final DelayQueue<Bucket<K>> delayQueue;
+        private long currentTime;
+        private Level<K> overflow;
+
+        @SuppressWarnings("unchecked")
+        private Level(long tickMs, int wheelSize, long startMs, DelayQueue<Bucket<K>> delayQueue) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.interval = tickMs * wheelSize;
+            this.delayQueue = delayQueue;
+            this.currentTime = startMs - (startMs % tickMs);
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket<>();
+            }
+        }
+
+        /**
+         * @return false if the entry is already due and must expire now
+         */
+        private boolean add(Entry<K> entry) {
+            long expiration = entry.expirationMs;
+            if (expiration < currentTime + tickMs) {
+                return false;
+            }
+            if (expiration < currentTime + interval) {
+                long virtualId = expiration / tickMs;
+                Bucket<K> bucket = buckets[(int) (virtualId % wheelSize)];
+                bucket.add(entry);
+                if (bucket.setExpiration(virtualId * tickMs)) {
+                    delayQueue.offer(bucket);
+                }
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level<>(interval, wheelSize, currentTime, delayQueue);
+            }
+            return overflow.add(entry);
+        }
+
+        private void advanceClock(long timeMs) {
+            if (timeMs >= currentTime + tickMs) {
+                currentTime = timeMs - (timeMs % tickMs);
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+    }
+
+    private static final class Bucket<K> implements Delayed {
+        private final List<Entry<K>> entries = new ArrayList<>();
+        private final AtomicLong expiration = new AtomicLong(-1);
+
+        private void add(Entry<K> entry) {
+            entries.add(entry);
+        }
+
+        /**
+         * @return true if the bucket was reused for a new time slot and has to be queued again
+         */
+        private boolean setExpiration(long expirationMs) {
+            return expiration.getAndSet(expirationMs) != expirationMs;
+        }
+
+        private long getExpiration() {
+            return expiration.get();
+        }
+
+        private List<Entry<K>> flush() {
+            List<Entry<K>> flushed = new ArrayList<>(entries);
+            entries.clear();
+            expiration.set(-1);
+            return flushed;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(getExpiration() - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getExpiration(), ((Bucket<?>) other).getExpiration());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+-- Baseline schema: the tables Hibernate generated from the entities before migrations were introduced.
+-- Written in the common subset of PostgreSQL and H2 (MODE=PostgreSQL) so the same scripts run in production and in tests.
+
+-- Id sequences; the increment matches the entities' allocationSize (pooled-lo optimizer)
+CREATE SEQUENCE airplane_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE flight_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE reservation_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE notification_outbox_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE seat_hold_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE airplane (
+    airplane_id     BIGINT       NOT NULL,
+    tail_number     VARCHAR(255),
+    model           VARCHAR(255),
+    capacity        INTEGER      NOT NULL,
+    production_year INTEGER      NOT NULL,
+    status          BOOLEAN      NOT NULL,
+    CONSTRAINT pk_airplane PRIMARY KEY (airplane_id),
+    CONSTRAINT uk_airplane_tail_number UNIQUE (tail_number)
+);
+
+CREATE TABLE flight (
+    flight_id      BIGINT       NOT NULL,
+    flight_number  VARCHAR(255),
+    departure      VARCHAR(255),
+    destination    VARCHAR(255),
+    departure_time TIMESTAMP(6),
+    arrival_time   TIMESTAMP(6),
+    airplane_id    BIGINT       NOT NULL,
+    CONSTRAINT pk_flight PRIMARY KEY (flight_id),
+    CONSTRAINT uk_flight_flight_number UNIQUE (flight_number),
+    CONSTRAINT fk_flight_airplane FOREIGN KEY (airplane_id) REFERENCES airplane (airplane_id)
+);
+
+CREATE INDEX idx_flight_route_departure ON flight (departure, destination, departure_time);
+CREATE INDEX idx_flight_airplane ON flight (airplane_id);
+
+CREATE TABLE reservation (
+    reservation_id   BIGINT       NOT NULL,
+    passenger_name   VARCHAR(255),
+    passenger_email  VARCHAR(255),
+    reservation_code VARCHAR(255),
+    status           BOOLEAN      NOT NULL,
+    created_at       TIMESTAMP(6),
+    flight_id        BIGINT       NOT NULL,
+    CONSTRAINT pk_reservation PRIMARY KEY (reservation_id),
+    CONSTRAINT uk_reservation_code UNIQUE (reservation_code),
+    CONSTRAINT fk_reservation_flight FOREIGN KEY (flight_id) REFERENCES flight (flight_id)
+);
+
+CREATE INDEX idx_reservation_flight ON reservation (flight_id, reservation_id);
+
+CREATE TABLE flight_inventory (
+    flight_id    BIGINT  NOT NULL,
+    capacity     INTEGER NOT NULL,
+    seats_booked INTEGER NOT NULL,
+    CONSTRAINT pk_flight_inventory PRIMARY KEY (flight_id)
+);
+
+CREATE TABLE notification_outbox (
+    outbox_id         BIGINT        NOT NULL,
+    idempotency_key   VARCHAR(512)  NOT NULL,
+    notification_type VARCHAR(255)  NOT NULL,
+    reservation_id    BIGINT        NOT NULL,
+    reservation_code  VARCHAR(255)  NOT NULL,
+    flight_id         BIGINT,
+    status            VARCHAR(255)  NOT NULL,
+    attempts          INTEGER       NOT NULL,
+    created_at        TIMESTAMP(6),
+    claimed_at        TIMESTAMP(6),
+    processed_at      TIMESTAMP(6),
+    last_error        VARCHAR(1000),
+    CONSTRAINT pk_notification_outbox PRIMARY KEY (outbox_id),
+    CONSTRAINT uk_notification_outbox_idempotency_key UNIQUE (idempotency_key)
+);
+
+CREATE INDEX idx_outbox_status ON notification_outbox (status, outbox_id);
+
+CREATE TABLE seat_hold (
+    hold_id         BIGINT       NOT NULL,
+    flight_id       BIGINT       NOT NULL,
+    passenger_name  VARCHAR(255),
+    passenger_email VARCHAR(255),
+    created_at      TIMESTAMP(6),
+    expires_at      TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_seat_hold PRIMARY KEY (hold_id)
+);
+
+CREATE INDEX idx_seat_hold_expires_at ON seat_hold (expires_at);
+
+CREATE TABLE sequence_block (
+    sequence_name VARCHAR(64) NOT NULL,
+    next_value    BIGINT      NOT NULL,
+    CONSTRAINT pk_sequence_block PRIMARY KEY (sequence_name)
+);
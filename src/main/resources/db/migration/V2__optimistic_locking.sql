@@ -0,0 +1,3 @@
+-- Version columns for optimistic locking of flights and reservations
+ALTER TABLE flight ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE reservation ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,6 @@
+-- Heartbeat row replicated to the read replica, used to measure replication lag
+CREATE TABLE replica_heartbeat (
+    heartbeat_id INTEGER NOT NULL,
+    beat_millis  BIGINT  NOT NULL,
+    CONSTRAINT pk_replica_heartbeat PRIMARY KEY (heartbeat_id)
+);
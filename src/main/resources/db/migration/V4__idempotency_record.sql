@@ -0,0 +1,12 @@
+-- Stored responses of reservation requests sent with an Idempotency-Key header
+CREATE TABLE idempotency_record (
+    idempotency_key VARCHAR(255)  NOT NULL,
+    request_hash    VARCHAR(64)   NOT NULL,
+    reservation_id  BIGINT        NOT NULL,
+    response_body   VARCHAR(4000) NOT NULL,
+    created_at      TIMESTAMP     NOT NULL,
+    expires_at      TIMESTAMP     NOT NULL,
+    CONSTRAINT pk_idempotency_record PRIMARY KEY (idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_record_expires_at ON idempotency_record (expires_at);
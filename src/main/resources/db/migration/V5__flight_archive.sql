@@ -0,0 +1,34 @@
+-- Flights moved out of the flight table some days after arrival, with their reservations (see FlightArchiveService).
+-- The archive tables keep no foreign keys: archived rows outlive the airplanes and flights they refer to.
+CREATE TABLE flight_archive (
+    flight_id      BIGINT       NOT NULL,
+    flight_number  VARCHAR(255),
+    departure      VARCHAR(255),
+    destination    VARCHAR(255),
+    departure_time TIMESTAMP(6),
+    arrival_time   TIMESTAMP(6),
+    airplane_id    BIGINT       NOT NULL,
+    capacity       INTEGER,
+    seats_booked   INTEGER,
+    archived_at    TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_flight_archive PRIMARY KEY (flight_id)
+);
+
+CREATE INDEX idx_flight_archive_arrival_time ON flight_archive (arrival_time);
+
+CREATE TABLE reservation_archive (
+    reservation_id   BIGINT       NOT NULL,
+    passenger_name   VARCHAR(255),
+    passenger_email  VARCHAR(255),
+    reservation_code VARCHAR(255),
+    status           BOOLEAN      NOT NULL,
+    created_at       TIMESTAMP(6),
+    flight_id        BIGINT       NOT NULL,
+    archived_at      TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_reservation_archive PRIMARY KEY (reservation_id)
+);
+
+CREATE INDEX idx_reservation_archive_flight ON reservation_archive (flight_id, reservation_id);
+
+-- Lets the archival job find departed flights without scanning the flight table
+CREATE INDEX idx_flight_arrival_time ON flight (arrival_time);
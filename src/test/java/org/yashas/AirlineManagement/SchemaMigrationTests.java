@@ -0,0 +1,68 @@
+package org.yashas.AirlineManagement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.yashas.AirlineManagement.model.Airplane;
+import org.yashas.AirlineManagement.repository.AirplaneRepository;
+
+/**
+ * Runs the Flyway migrations used by the prod profile against H2 in PostgreSQL compatibility mode,
+ * then lets Hibernate validate every entity against the migrated schema. The context only starts
+ * if the migrations apply and the schema matches the mappings; the seed data is then written
+ * through the migrated tables.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:schema-migration;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "notification.outbox.relay-enabled=false"
+})
+class SchemaMigrationTests {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AirplaneRepository airplaneRepository;
+
+    @Test
+    void allMigrationsApplied() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied()).isNotEmpty()
+                .allSatisfy(migration -> assertThat(migration.getState().isFailed()).isFalse());
+    }
+
+    @Test
+    void seedDataWrittenThroughMigratedSchema() {
+        assertThat(airplaneRepository.count()).isPositive();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from flight", Long.class)).isPositive();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from reservation", Long.class)).isPositive();
+    }
+
+    @Test
+    void idsAllocatedInPooledLoBlocks() {
+        List<Long> ids = airplaneRepository.findAll().stream().map(Airplane::getId).toList();
+        Airplane saved = airplaneRepository.save(Airplane.builder()
+                .tailNumber("TC-SCH")
+                .model("Airbus A320")
+                .capacity(180)
+                .productionYear(2020)
+                .status(true)
+                .build());
+
+        // The seed data and the new airplane share the first block [1, 50]: one sequence call so far,
+        // and that call returned the start of the block, so the next one returns the start of the second block
+        assertThat(ids).allSatisfy(id -> assertThat(id).isBetween(1L, 50L));
+        assertThat(saved.getId()).isBetween(1L, 50L);
+        assertThat(jdbcTemplate.queryForObject("select next value for airplane_seq", Long.class)).isEqualTo(51L);
+    }
+}
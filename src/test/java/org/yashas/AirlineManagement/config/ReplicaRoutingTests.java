@@ -0,0 +1,188 @@
+package org.yashas.AirlineManagement.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.yashas.AirlineManagement.util.datasource.ReplicaLagMonitor;
+
+/**
+ * Routes between two in-memory H2 databases standing in for the primary and the replica.
+ * Replication is simulated by copying the heartbeat into the replica by hand; each database holds
+ * a marker row naming it, so a query shows which one a transaction was sent to.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "datasource.replica.max-lag-ms=5000",
+        // The tests run the checks themselves
+        "datasource.replica.check-interval-ms=3600000",
+        "notification.outbox.relay-enabled=false"
+})
+@AutoConfigureMockMvc
+@Import(ReplicaRoutingTests.RouteProbeController.class)
+class ReplicaRoutingTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        for (JdbcTemplate database : new JdbcTemplate[] {primary, replica}) {
+            database.execute("create table if not exists route_marker (name varchar(16))");
+            database.update("delete from route_marker");
+        }
+        primary.update("insert into route_marker values ('primary')");
+        replica.update("insert into route_marker values ('replica')");
+        replica.execute("create table if not exists replica_heartbeat (heartbeat_id int primary key, beat_millis bigint not null)");
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplicaWhenCaughtUp() {
+        replicate(System.currentTimeMillis());
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+        assertThat(databaseUsedBy(true)).isEqualTo("replica");
+        assertThat(databaseUsedBy(false)).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransactionsFallBackToPrimaryWhenReplicaLags() {
+        replicate(System.currentTimeMillis() - 60_000);
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+        assertThat(replicaLagMonitor.getLagMillis()).isGreaterThanOrEqualTo(60_000);
+        assertThat(databaseUsedBy(true)).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransactionsFallBackToPrimaryWhenReplicaUnreadable() {
+        replica.update("delete from replica_heartbeat");
+        replicaLagMonitor.check();
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+        assertThat(databaseUsedBy(true)).isEqualTo("primary");
+    }
+
+    @Test
+    void heartbeatWrittenToPrimary() {
+        replicaLagMonitor.beat();
+
+        assertThat(primary.queryForObject("select beat_millis from replica_heartbeat where heartbeat_id = 1", Long.class))
+                .isCloseTo(System.currentTimeMillis(), within(5_000L));
+    }
+
+    /**
+     * The prod profile hands out connections with auto-commit disabled; the heartbeat must still be committed
+     * rather than rolled back when its connection returns to the pool.
+     */
+    @Test
+    void heartbeatCommittedWhenPoolDisablesAutoCommit() {
+        primary.update("delete from replica_heartbeat");
+        HikariConfig manualCommit = new HikariConfig();
+        ((HikariDataSource) primaryDataSource).copyStateTo(manualCommit);
+        manualCommit.setPoolName("routing-manual-commit");
+        manualCommit.setAutoCommit(false);
+
+        try (HikariDataSource manualCommitPool = new HikariDataSource(manualCommit)) {
+            new ReplicaLagMonitor(manualCommitPool, replicaDataSource, 5_000).beat();
+        }
+
+        assertThat(primary.queryForObject("select beat_millis from replica_heartbeat where heartbeat_id = 1", Long.class))
+                .isCloseTo(System.currentTimeMillis(), within(5_000L));
+    }
+
+    /**
+     * With open-in-view, one entity manager and its connection serve every transaction of a web request;
+     * a read-write transaction after a read-only one must still reach the primary.
+     */
+    @Test
+    void writeAfterReadOnlyTransactionInSameRequestUsesPrimary() throws Exception {
+        replicate(System.currentTimeMillis());
+
+        mockMvc.perform(get("/test/route-probe"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("replica,primary"));
+    }
+
+    /**
+     * Sets the replica's heartbeat as if the primary had written it at {@code beatMillis}, then runs a check.
+     */
+    private void replicate(long beatMillis) {
+        replica.update("merge into replica_heartbeat (heartbeat_id, beat_millis) key (heartbeat_id) values (1, ?)", beatMillis);
+        replicaLagMonitor.check();
+    }
+
+    private String databaseUsedBy(boolean readOnly) {
+        return databaseUsedBy(transactionManager, jdbcTemplate, readOnly);
+    }
+
+    private static String databaseUsedBy(PlatformTransactionManager transactionManager, JdbcTemplate jdbcTemplate,
+                                         boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.queryForObject("select name from route_marker", String.class));
+    }
+
+    /**
+     * Runs a read-only and then a read-write transaction in one request and names the database each one used.
+     */
+    @RestController
+    static class RouteProbeController {
+
+        private final PlatformTransactionManager transactionManager;
+        private final JdbcTemplate jdbcTemplate;
+
+        RouteProbeController(PlatformTransactionManager transactionManager, JdbcTemplate jdbcTemplate) {
+            this.transactionManager = transactionManager;
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @GetMapping("/test/route-probe")
+        String probe() {
+            return databaseUsedBy(transactionManager, jdbcTemplate, true)
+                    + "," + databaseUsedBy(transactionManager, jdbcTemplate, false);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.yashas.AirlineManagement.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.yashas.AirlineManagement.repository.AirplaneRepository;
+import org.yashas.AirlineManagement.repository.FlightRepository;
+import org.yashas.AirlineManagement.repository.ReservationRepository;
+
+/**
+ * Guards the fetch plans of the read endpoints: each must run a fixed number of SQL statements,
+ * whatever the number of rows returned. A failure here usually means an association is being
+ * loaded per row (N+1).
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement-count;DB_CLOSE_DELAY=-1",
+        "notification.outbox.relay-enabled=false"
+})
+@AutoConfigureMockMvc
+class EndpointStatementCountTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AirplaneRepository airplaneRepository;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    private Statistics statistics;
+    private Long airplaneId;
+    private Long flightId;
+    private Long reservationId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        airplaneId = airplaneRepository.findAll().get(0).getId();
+        reservationId = reservationRepository.findAll().get(0).getId();
+        flightId = reservationRepository.findResponsesAfter(0L, Limit.of(1)).get(0).getFlightId();
+    }
+
+    @Test
+    void listFlights() throws Exception {
+        assertStatementsAtMost(1, "/flights");
+    }
+
+    @Test
+    void streamFlights() throws Exception {
+        assertStreamedStatementsAtMost(1, "/flights/stream");
+    }
+
+    @Test
+    void getFlightById() throws Exception {
+        assertStatementsAtMost(1, "/flights/" + flightId);
+    }
+
+    @Test
+    void listFlightsOfAirplane() throws Exception {
+        // existence check + one projection query
+        assertStatementsAtMost(2, "/airplanes/" + airplaneId + "/flights");
+    }
+
+    @Test
+    void listReservations() throws Exception {
+        assertStatementsAtMost(1, "/reservations");
+    }
+
+    @Test
+    void streamReservations() throws Exception {
+        assertStreamedStatementsAtMost(1, "/reservations/stream");
+    }
+
+    @Test
+    void getReservationById() throws Exception {
+        assertStatementsAtMost(1, "/reservations/" + reservationId);
+    }
+
+    @Test
+    void listReservationsOfFlight() throws Exception {
+        // existence check + one projection query
+        assertStatementsAtMost(2, "/flights/" + flightId + "/reservations");
+    }
+
+    private void assertStatementsAtMost(long expected, String uri) throws Exception {
+        statistics.clear();
+        mockMvc.perform(get(uri)).andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount())
+                .as("SQL statements executed by GET %s", uri)
+                .isLessThanOrEqualTo(expected);
+    }
+
+    private void assertStreamedStatementsAtMost(long expected, String uri) throws Exception {
+        statistics.clear();
+        MvcResult result = mockMvc.perform(get(uri)).andExpect(request().asyncStarted()).andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount())
+                .as("SQL statements executed by GET %s", uri)
+                .isLessThanOrEqualTo(expected);
+    }
+}
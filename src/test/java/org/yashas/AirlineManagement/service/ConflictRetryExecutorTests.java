@@ -0,0 +1,121 @@
+package org.yashas.AirlineManagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.yashas.AirlineManagement.exception.GlobalExceptionHandler;
+import org.yashas.AirlineManagement.exception.state.ConcurrentUpdateConflictException;
+import org.yashas.AirlineManagement.model.Reservation;
+import org.yashas.AirlineManagement.repository.ReservationRepository;
+import org.yashas.AirlineManagement.service.implementations.ConflictRetryExecutor;
+import org.yashas.AirlineManagement.util.constant.MetricNames;
+
+/**
+ * Two writers read the same version of a reservation: the one committing second loses the
+ * optimistic-lock race and must be run again on the winner's state, until the attempts run out.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:conflict-retry;DB_CLOSE_DELAY=-1",
+        "concurrency.update.max-attempts=3",
+        "concurrency.update.backoff-ms=0",
+        "notification.outbox.relay-enabled=false"
+})
+class ConflictRetryExecutorTests {
+
+    private static final String ENTITY = "reservation";
+
+    @Autowired
+    private ConflictRetryExecutor conflictRetryExecutor;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private GlobalExceptionHandler exceptionHandler;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long reservationId;
+
+    @BeforeEach
+    void setUp() {
+        reservationId = reservationRepository.findAll().get(0).getId();
+    }
+
+    @Test
+    void loserRerunOnWinnersState() {
+        double retriedBefore = conflicts("retried");
+        List<Long> versionsRead = new CopyOnWriteArrayList<>();
+
+        String name = conflictRetryExecutor.execute(ENTITY, reservationId, () -> {
+            Reservation reservation = reservationRepository.findById(reservationId).orElseThrow();
+            versionsRead.add(reservation.getVersion());
+            if (versionsRead.size() == 1) {
+                // The other writer has read the same version and commits first
+                concurrentUpdate(reservation.getVersion(), "Winner");
+            }
+            reservation.setPassengerName(reservation.getPassengerName() + " + Loser");
+            return reservationRepository.save(reservation).getPassengerName();
+        });
+
+        assertThat(versionsRead).hasSize(2);
+        assertThat(versionsRead.get(1)).isEqualTo(versionsRead.get(0) + 1);
+        assertThat(name).isEqualTo("Winner + Loser");
+        assertThat(reservationRepository.findById(reservationId).orElseThrow().getPassengerName()).isEqualTo("Winner + Loser");
+        assertThat(conflicts("retried")).isEqualTo(retriedBefore + 1);
+    }
+
+    @Test
+    void conflictAnsweredWith409AfterLastAttempt() {
+        double retriedBefore = conflicts("retried");
+        double exhaustedBefore = conflicts("exhausted");
+        List<Long> versionsRead = new CopyOnWriteArrayList<>();
+
+        ConcurrentUpdateConflictException conflict = catchThrowableOfType(ConcurrentUpdateConflictException.class,
+                () -> conflictRetryExecutor.execute(ENTITY, reservationId, () -> {
+                    Reservation reservation = reservationRepository.findById(reservationId).orElseThrow();
+                    versionsRead.add(reservation.getVersion());
+                    concurrentUpdate(reservation.getVersion(), "Winner " + versionsRead.size());
+                    reservation.setPassengerName("Loser");
+                    return reservationRepository.save(reservation);
+                }));
+
+        assertThat(conflict).isNotNull();
+        assertThat(versionsRead).hasSize(3).doesNotHaveDuplicates();
+        assertThat(reservationRepository.findById(reservationId).orElseThrow().getPassengerName()).isEqualTo("Winner 3");
+        assertThat(conflicts("retried")).isEqualTo(retriedBefore + 2);
+        assertThat(conflicts("exhausted")).isEqualTo(exhaustedBefore + 1);
+        assertThat(exceptionHandler.handleConcurrentUpdateConflictException(conflict).getStatusCode())
+                .isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Renames the reservation in a transaction on another thread, after checking it read {@code expectedVersion} too.
+     */
+    private void concurrentUpdate(Long expectedVersion, String passengerName) {
+        CompletableFuture.runAsync(() -> conflictRetryExecutor.execute(ENTITY, reservationId, () -> {
+            Reservation reservation = reservationRepository.findById(reservationId).orElseThrow();
+            assertThat(reservation.getVersion()).isEqualTo(expectedVersion);
+            reservation.setPassengerName(passengerName);
+            return reservationRepository.save(reservation);
+        })).join();
+    }
+
+    private double conflicts(String outcome) {
+        Counter counter = meterRegistry.find(MetricNames.OPTIMISTIC_CONFLICTS)
+                .tags("entity", ENTITY, "outcome", outcome)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
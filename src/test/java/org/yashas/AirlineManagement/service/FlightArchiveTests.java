@@ -0,0 +1,70 @@
+package org.yashas.AirlineManagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
+import org.yashas.AirlineManagement.payload.reservation.ReservationResponseDTO;
+import org.yashas.AirlineManagement.service.implementations.FlightArchiveService;
+import org.yashas.AirlineManagement.service.interfaces.FlightService;
+import org.yashas.AirlineManagement.service.interfaces.ReservationService;
+
+/**
+ * Archival moves departed flights and their reservations out of the hot tables, and lookups by ID
+ * keep finding them. The seed flights arrive in May, June and July 2025; the cutoff splits them.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:flight-archive;DB_CLOSE_DELAY=-1",
+        "notification.outbox.relay-enabled=false",
+        "flight.archive.enabled=true"
+})
+class FlightArchiveTests {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+    @Autowired
+    private FlightArchiveService archiveService;
+
+    @Autowired
+    private FlightService flightService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void departedFlightsArchivedAndStillReadable() {
+        List<Long> dueFlights = jdbcTemplate.queryForList(
+                "select flight_id from flight where arrival_time < ?", Long.class, CUTOFF);
+        Long reservationId = jdbcTemplate.queryForObject("select min(r.reservation_id) from reservation r "
+                + "join flight f on f.flight_id = r.flight_id where f.arrival_time < ?", Long.class, CUTOFF);
+        long flightsBefore = count("flight");
+        FlightResponseDTO flight = flightService.getFlightById(dueFlights.get(0));
+        ReservationResponseDTO reservation = reservationService.getReservationById(reservationId);
+
+        int archived = archiveService.archiveArrivedBefore(CUTOFF);
+
+        assertThat(archived).isEqualTo(dueFlights.size());
+        assertThat(count("flight")).isEqualTo(flightsBefore - archived);
+        assertThat(count("flight_archive")).isEqualTo(archived);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from flight where arrival_time < ?", Long.class, CUTOFF))
+                .isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from reservation where reservation_id = ?", Long.class,
+                reservationId)).isZero();
+
+        assertThat(flightService.getFlightById(flight.getId())).isEqualTo(flight);
+        assertThat(reservationService.getReservationById(reservationId)).isEqualTo(reservation);
+        assertThat(archiveService.archiveArrivedBefore(CUTOFF)).isZero();
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+}
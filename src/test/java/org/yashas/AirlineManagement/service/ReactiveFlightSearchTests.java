@@ -0,0 +1,70 @@
+package org.yashas.AirlineManagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.yashas.AirlineManagement.exception.entityrelated.NoFlightsMatchingCriteriaException;
+import org.yashas.AirlineManagement.payload.flight.FlightAvailabilityDTO;
+import org.yashas.AirlineManagement.payload.flight.FlightFilterRequestDTO;
+import org.yashas.AirlineManagement.payload.flight.FlightResponseDTO;
+import org.yashas.AirlineManagement.service.interfaces.FlightService;
+import org.yashas.AirlineManagement.service.interfaces.ReactiveFlightService;
+
+/**
+ * The reactive flight API reads the same database over R2DBC and must answer like its blocking counterpart.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive-search;DB_CLOSE_DELAY=-1",
+        "notification.outbox.relay-enabled=false"
+})
+class ReactiveFlightSearchTests {
+
+    @Autowired
+    private ReactiveFlightService reactiveFlightService;
+
+    @Autowired
+    private FlightService flightService;
+
+    @Test
+    void searchMatchesBlockingSearch() {
+        FlightResponseDTO flight = reactiveFlightService.streamFlights(null).blockFirst();
+        assertThat(flight).isNotNull();
+        FlightFilterRequestDTO filter = new FlightFilterRequestDTO();
+        filter.setDepartureLocation(flight.getDeparture());
+        filter.setArrivalLocation(flight.getDestination());
+        filter.setDepartureDate(flight.getDepartureTime().toLocalDate());
+
+        List<FlightResponseDTO> reactive = reactiveFlightService.searchFlights(filter).collectList().block();
+
+        assertThat(reactive).containsExactlyInAnyOrderElementsOf(flightService.getFilteredFlights(filter));
+    }
+
+    @Test
+    void searchWithoutMatchesSignalsError() {
+        FlightFilterRequestDTO filter = new FlightFilterRequestDTO();
+        filter.setDepartureLocation("Nowhere Airport");
+
+        assertThatThrownBy(() -> reactiveFlightService.searchFlights(filter).collectList().block())
+                .isInstanceOf(NoFlightsMatchingCriteriaException.class);
+    }
+
+    @Test
+    void availabilityInRequestedOrder() {
+        List<Long> ids = reactiveFlightService.streamFlights(null)
+                .take(3)
+                .map(FlightResponseDTO::getId)
+                .collectList()
+                .block();
+        List<Long> requested = List.of(ids.get(2), -1L, ids.get(0), ids.get(1), ids.get(0));
+
+        List<FlightAvailabilityDTO> availability = reactiveFlightService.getFlightAvailability(requested).collectList().block();
+
+        assertThat(availability).isEqualTo(flightService.getFlightAvailability(requested));
+        assertThat(availability).extracting(FlightAvailabilityDTO::getFlightId)
+                .containsExactly(ids.get(2), ids.get(0), ids.get(1));
+    }
+}
@@ -0,0 +1,120 @@
+package org.yashas.AirlineManagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.yashas.AirlineManagement.exception.state.IdempotencyKeyReusedException;
+import org.yashas.AirlineManagement.payload.reservation.ReservationRequestDTO;
+import org.yashas.AirlineManagement.repository.FlightInventoryRepository;
+import org.yashas.AirlineManagement.repository.FlightRepository;
+import org.yashas.AirlineManagement.service.implementations.ReservationIdempotencyService;
+
+/**
+ * Retries and concurrent duplicates of a keyed reservation request must create one reservation
+ * and all be answered with it.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:idempotency;DB_CLOSE_DELAY=-1",
+        "notification.outbox.relay-enabled=false"
+})
+class ReservationIdempotencyTests {
+
+    @Autowired
+    private ReservationIdempotencyService idempotencyService;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private FlightInventoryRepository flightInventoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long flightId;
+
+    @BeforeEach
+    void setUp() {
+        flightId = flightRepository.findAll().stream()
+                .filter(flight -> flightInventoryRepository.findById(flight.getId())
+                        .map(inventory -> inventory.getSeatsBooked() < inventory.getCapacity())
+                        .orElse(true))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+
+    @Test
+    void retryReturnsStoredReservation() {
+        String key = UUID.randomUUID().toString();
+        ReservationRequestDTO request = request(key);
+
+        ReservationIdempotencyService.Outcome first = idempotencyService.createReservation(key, request);
+        ReservationIdempotencyService.Outcome retry = idempotencyService.createReservation(key, request);
+
+        assertThat(first.replayed()).isFalse();
+        assertThat(retry.replayed()).isTrue();
+        assertThat(retry.reservation()).isEqualTo(first.reservation());
+        assertThat(reservationsFor(key)).isEqualTo(1);
+    }
+
+    @Test
+    void keyReusedForDifferentRequestRejected() {
+        String key = UUID.randomUUID().toString();
+        idempotencyService.createReservation(key, request(key));
+
+        assertThatThrownBy(() -> idempotencyService.createReservation(key, request("other-" + key)))
+                .isInstanceOf(IdempotencyKeyReusedException.class);
+    }
+
+    @Test
+    void concurrentDuplicatesCreateOneReservation() throws Exception {
+        String key = UUID.randomUUID().toString();
+        ReservationRequestDTO request = request(key);
+        int clients = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<ReservationIdempotencyService.Outcome>> outcomes = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                outcomes.add(executor.submit(() -> {
+                    start.await();
+                    return idempotencyService.createReservation(key, request);
+                }));
+            }
+            start.countDown();
+
+            List<ReservationIdempotencyService.Outcome> results = new ArrayList<>();
+            for (Future<ReservationIdempotencyService.Outcome> outcome : outcomes) {
+                results.add(outcome.get());
+            }
+            Long reservationId = results.get(0).reservation().getId();
+            assertThat(results).allSatisfy(result -> assertThat(result.reservation().getId()).isEqualTo(reservationId));
+            assertThat(results).filteredOn(result -> !result.replayed()).hasSize(1);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(reservationsFor(key)).isEqualTo(1);
+    }
+
+    private ReservationRequestDTO request(String key) {
+        return new ReservationRequestDTO("Idempotent Passenger", key + "@example.com", flightId);
+    }
+
+    private Integer reservationsFor(String key) {
+        return jdbcTemplate.queryForObject("select count(*) from reservation where passenger_email = ?",
+                Integer.class, key + "@example.com");
+    }
+}
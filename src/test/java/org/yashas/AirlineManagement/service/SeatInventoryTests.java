@@ -0,0 +1,163 @@
+package org.yashas.AirlineManagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.yashas.AirlineManagement.event.FlightCapacityExhaustedEvent;
+import org.yashas.AirlineManagement.exception.state.FlightFullyBookedException;
+import org.yashas.AirlineManagement.payload.reservation.ReservationRequestDTO;
+import org.yashas.AirlineManagement.service.interfaces.ReservationService;
+
+/**
+ * Bookings take seats from the per-flight counter in {@code flight_inventory}: a flight is never
+ * oversold, and the booking that takes its last seat, and only that one, announces it sold out.
+ * Each test books a different seed flight.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:seat-inventory;DB_CLOSE_DELAY=-1",
+        "notification.outbox.relay-enabled=false"
+})
+@Import(SeatInventoryTests.SoldOutListener.class)
+class SeatInventoryTests {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private SoldOutListener soldOutListener;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Long> flightIds;
+
+    @BeforeEach
+    void setUp() {
+        flightIds = jdbcTemplate.queryForList("select flight_id from flight order by flight_id", Long.class);
+    }
+
+    @Test
+    void lastSeatsAnnouncedOnceThenRejected() {
+        Long flightId = flightIds.get(0);
+        leaveSeats(flightId, 2);
+
+        reservationService.createReservation(request(flightId, 1));
+        reservationService.createReservation(request(flightId, 2));
+
+        assertThat(soldOutListener.soldOut(flightId)).isEqualTo(1);
+        assertThatThrownBy(() -> reservationService.createReservation(request(flightId, 3)))
+                .isInstanceOf(FlightFullyBookedException.class);
+        assertThat(seatsLeft(flightId)).isZero();
+        assertThat(soldOutListener.soldOut(flightId)).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentBookingsNeverOversell() throws Exception {
+        Long flightId = flightIds.get(1);
+        int reservationsBefore = activeReservations(flightId);
+        leaveSeats(flightId, 3);
+
+        List<Throwable> failures = bookConcurrently(flightId, 12);
+
+        assertThat(failures).hasSize(9).allSatisfy(failure -> assertThat(failure).isInstanceOf(FlightFullyBookedException.class));
+        assertThat(seatsLeft(flightId)).isZero();
+        assertThat(activeReservations(flightId)).isEqualTo(reservationsBefore + 3);
+        assertThat(soldOutListener.soldOut(flightId)).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentFirstBookingsShareRebuiltCounter() throws Exception {
+        Long flightId = flightIds.get(2);
+        int reservationsBefore = activeReservations(flightId);
+        // As for a flight created before seat counters existed: the first bookings build it from the reservations
+        jdbcTemplate.update("delete from flight_inventory where flight_id = ?", flightId);
+
+        List<Throwable> failures = bookConcurrently(flightId, 8);
+
+        assertThat(failures).isEmpty();
+        assertThat(activeReservations(flightId)).isEqualTo(reservationsBefore + 8);
+        assertThat(jdbcTemplate.queryForObject("select seats_booked from flight_inventory where flight_id = ?",
+                Integer.class, flightId)).isEqualTo(reservationsBefore + 8);
+    }
+
+    /**
+     * Books the flight from that many threads at once.
+     *
+     * @return the exceptions of the bookings that failed
+     */
+    private List<Throwable> bookConcurrently(Long flightId, int clients) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Throwable> failures = new ArrayList<>();
+        try {
+            List<Future<?>> bookings = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                int passenger = i;
+                bookings.add(executor.submit(() -> {
+                    start.await();
+                    return reservationService.createReservation(request(flightId, passenger));
+                }));
+            }
+            start.countDown();
+            for (Future<?> booking : bookings) {
+                try {
+                    booking.get();
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return failures;
+    }
+
+    private void leaveSeats(Long flightId, int seats) {
+        jdbcTemplate.update("update flight_inventory set capacity = seats_booked + ? where flight_id = ?", seats, flightId);
+    }
+
+    private int seatsLeft(Long flightId) {
+        return jdbcTemplate.queryForObject("select capacity - seats_booked from flight_inventory where flight_id = ?",
+                Integer.class, flightId);
+    }
+
+    private int activeReservations(Long flightId) {
+        return jdbcTemplate.queryForObject("select count(*) from reservation where flight_id = ? and status = true",
+                Integer.class, flightId);
+    }
+
+    private static ReservationRequestDTO request(Long flightId, int passenger) {
+        return new ReservationRequestDTO("Passenger " + passenger, "passenger" + passenger + "@example.com", flightId);
+    }
+
+    @TestConfiguration
+    static class SoldOutListener {
+
+        private final List<Long> soldOutFlights = new CopyOnWriteArrayList<>();
+
+        @TransactionalEventListener
+        void onCapacityExhausted(FlightCapacityExhaustedEvent event) {
+            soldOutFlights.add(event.getFlightId());
+        }
+
+        long soldOut(Long flightId) {
+            return soldOutFlights.stream().filter(flightId::equals).count();
+        }
+    }
+}
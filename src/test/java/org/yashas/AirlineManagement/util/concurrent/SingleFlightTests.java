@@ -0,0 +1,164 @@
+package org.yashas.AirlineManagement.util.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.yashas.AirlineManagement.util.constant.MetricNames;
+
+/**
+ * Callers of the same key while a load runs share it: one loader call, its value or its exception
+ * for everyone, counted as one leader and the rest coalesced.
+ */
+class SingleFlightTests {
+
+    private static final String NAME = "test";
+    private static final String KEY = "key";
+
+    private MeterRegistry meterRegistry;
+    private SingleFlight<String, String> singleFlight;
+    private ExecutorService executor;
+
+    private final AtomicInteger loaderCalls = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>(NAME, meterRegistry);
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        List<Future<SingleFlight.Result<String>>> callers = startCallers(4, blockingLoader(() -> "value"));
+        release.countDown();
+
+        List<SingleFlight.Result<String>> results = new ArrayList<>();
+        for (Future<SingleFlight.Result<String>> caller : callers) {
+            results.add(caller.get(5, TimeUnit.SECONDS));
+        }
+        assertThat(loaderCalls).hasValue(1);
+        assertThat(results).extracting(SingleFlight.Result::value).containsOnly("value");
+        assertThat(results).filteredOn(result -> !result.shared()).hasSize(1);
+
+        // Nothing is kept once the load has finished
+        assertThat(singleFlight.execute(KEY, () -> "reloaded")).isEqualTo(new SingleFlight.Result<>("reloaded", false));
+    }
+
+    @Test
+    void exceptionPropagatesToWaiters() throws Exception {
+        IllegalStateException failure = new IllegalStateException("load failed");
+        List<Future<SingleFlight.Result<String>>> callers = startCallers(3, blockingLoader(() -> {
+            throw failure;
+        }));
+        release.countDown();
+
+        for (Future<SingleFlight.Result<String>> caller : callers) {
+            try {
+                caller.get(5, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isSameAs(failure);
+                continue;
+            }
+            throw new AssertionError("Caller did not receive the loader's exception");
+        }
+        assertThat(loaderCalls).hasValue(1);
+    }
+
+    @Test
+    void forgetStartsNewLoad() throws Exception {
+        Future<SingleFlight.Result<String>> first = startCallers(1, blockingLoader(() -> "stale")).get(0);
+
+        singleFlight.forget(KEY);
+        SingleFlight.Result<String> afterForget = singleFlight.execute(KEY, () -> {
+            loaderCalls.incrementAndGet();
+            return "fresh";
+        });
+        release.countDown();
+
+        assertThat(afterForget).isEqualTo(new SingleFlight.Result<>("fresh", false));
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(new SingleFlight.Result<>("stale", false));
+        assertThat(loaderCalls).hasValue(2);
+    }
+
+    @Test
+    void coalescingRatioCountsSharedCalls() throws Exception {
+        assertThat(coalescingRatio()).isZero();
+
+        List<Future<SingleFlight.Result<String>>> callers = startCallers(4, blockingLoader(() -> "value"));
+        release.countDown();
+        for (Future<SingleFlight.Result<String>> caller : callers) {
+            caller.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(loads("leader")).isEqualTo(1);
+        assertThat(loads("coalesced")).isEqualTo(3);
+        assertThat(coalescingRatio()).isEqualTo(0.75);
+        assertThat(singleFlight.getCoalescingRatio()).isEqualTo(0.75);
+    }
+
+    /**
+     * Starts one caller that becomes the leader and blocks in the loader, then the others,
+     * and returns once all of them are waiting for the leader's load.
+     */
+    private List<Future<SingleFlight.Result<String>>> startCallers(int count, Supplier<String> loader) throws InterruptedException {
+        CountDownLatch loading = new CountDownLatch(1);
+        List<Future<SingleFlight.Result<String>>> callers = new ArrayList<>();
+        callers.add(executor.submit(() -> singleFlight.execute(KEY, () -> {
+            loading.countDown();
+            return loader.get();
+        })));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i < count; i++) {
+            callers.add(executor.submit(() -> singleFlight.execute(KEY, () -> {
+                throw new AssertionError("Coalesced caller ran the loader");
+            })));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loads("coalesced") < count - 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(loads("coalesced")).isEqualTo(count - 1);
+        return callers;
+    }
+
+    private Supplier<String> blockingLoader(Supplier<String> result) {
+        return () -> {
+            loaderCalls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result.get();
+        };
+    }
+
+    private double loads(String role) {
+        return meterRegistry.get(MetricNames.SINGLE_FLIGHT_LOADS).tags("name", NAME, "role", role).functionCounter().count();
+    }
+
+    private double coalescingRatio() {
+        return meterRegistry.get(MetricNames.SINGLE_FLIGHT_COALESCING_RATIO).tag("name", NAME).gauge().value();
+    }
+}
@@ -0,0 +1,48 @@
+package org.yashas.AirlineManagement.util.csv;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.yashas.AirlineManagement.exception.state.InvalidBulkImportException;
+import org.yashas.AirlineManagement.payload.reservation.ReservationRequestDTO;
+
+class ReservationCsvParserTests {
+
+    @Test
+    void columnsReadByHeaderName() throws IOException {
+        List<ReservationRequestDTO> rows = parse("""
+                flightId,note,PassengerEmail,passengerName
+                7,window seat,"ada@example.com","Lovelace, Ada"
+                """);
+
+        assertThat(rows).containsExactly(new ReservationRequestDTO("Lovelace, Ada", "ada@example.com", 7L));
+    }
+
+    @Test
+    void duplicateColumnNameRejected() {
+        assertThatThrownBy(() -> parse("""
+                x,X,passengerName,passengerEmail,flightId
+                1,2,Ada,ada@example.com
+                """))
+                .isInstanceOf(InvalidBulkImportException.class)
+                .hasMessageContaining("'X'");
+    }
+
+    @Test
+    void rowShorterThanHeaderRejected() {
+        assertThatThrownBy(() -> parse("""
+                x,,passengerName,passengerEmail,flightId
+                1,2,Ada,ada@example.com
+                """))
+                .isInstanceOf(InvalidBulkImportException.class)
+                .hasMessage("Line 2: expected 5 fields.");
+    }
+
+    private static List<ReservationRequestDTO> parse(String csv) throws IOException {
+        return ReservationCsvParser.parse(new StringReader(csv), 100);
+    }
+}
@@ -0,0 +1,73 @@
+package org.yashas.AirlineManagement.util.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * One permit, shared by two data sources: nested connections of the permit holder must not wait,
+ * other threads must wait until it has closed its last connection.
+ */
+class ThreadLimitedDataSourceTests {
+
+    private ThreadLimitedDataSource first;
+    private ThreadLimitedDataSource second;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLimitedDataSource.Limit limit = new ThreadLimitedDataSource.Limit(1);
+        first = new ThreadLimitedDataSource(h2("thread-limit-first"), limit, Duration.ofMillis(200));
+        second = new ThreadLimitedDataSource(h2("thread-limit-second"), limit, Duration.ofMillis(200));
+    }
+
+    @Test
+    void nestedConnectionsOfPermitHolderDoNotWait() throws Exception {
+        try (Connection outer = first.getConnection();
+             Connection nested = first.getConnection();
+             Connection otherDatabase = second.getConnection()) {
+            assertThat(nested.isValid(1)).isTrue();
+            assertThat(otherDatabase.isValid(1)).isTrue();
+        }
+    }
+
+    @Test
+    void otherThreadsWaitUntilLastConnectionClosed() throws Exception {
+        Connection outer = first.getConnection();
+        Connection nested = first.getConnection();
+
+        assertThatThrownBy(() -> CompletableFuture.runAsync(() -> openAndClose(second)).join())
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseInstanceOf(SQLTransientConnectionException.class);
+
+        nested.close();
+        nested.close();
+        assertThatThrownBy(() -> CompletableFuture.runAsync(() -> openAndClose(second)).join())
+                .hasRootCauseInstanceOf(SQLTransientConnectionException.class);
+
+        outer.close();
+        CompletableFuture.runAsync(() -> openAndClose(second)).get(5, TimeUnit.SECONDS);
+        openAndClose(first);
+    }
+
+    private static void openAndClose(ThreadLimitedDataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection.isClosed()).isFalse();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static JdbcDataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+}